@@ -2,39 +2,85 @@ package com.automationframework.api;
 
 
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.FilterContext;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
 import io.restassured.specification.RequestSpecification;
+import com.automationframework.core.SessionStateCache;
 import com.automationframework.utils.ConfigManager;
 import com.automationframework.utils.TestDataProvider;
 
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Base class for API automation
  * Provides common API functionality and utilities
+ * The base request specification is built once and never modified; every call derives a fresh
+ * request from it and the auth filter adds the current token, so one instance can be shared
+ * by concurrent threads. The async methods send the same requests through a non-blocking
+ * HTTP/2 client and complete with RestAssured responses
  */
 public class ApiBaseClass {
     
     
-    protected String baseUrl;
-    protected String authToken;
-    protected RequestSpecification requestSpec;
+    protected final String baseUrl;
+    protected volatile String authToken;
+    private final RequestSpecification baseSpec;
     
     public ApiBaseClass() {
         this.baseUrl = ConfigManager.getBaseUrl();
-        initializeRequestSpecification();
+        this.baseSpec = createBaseSpecification();
     }
     
     /**
-     * Initializes the request specification with common headers and base URI
+     * Builds the shared request specification with common headers, base URI, auth filter and
+     * the shared connection pool
+     * @return The base request specification, which must not be modified afterwards
      */
-    protected void initializeRequestSpecification() {
-        requestSpec = RestAssured.given()
-                .baseUri(baseUrl)
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON);
+    protected RequestSpecification createBaseSpecification() {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .addFilter(this::authenticate);
+        if (ApiConnectionPool.isEnabled()) {
+            RestAssuredConfig config = RestAssured.config();
+            builder.setConfig(config.httpClient(ApiConnectionPool.httpClientConfig(config.getHttpClientConfig())));
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Starts a new request from the base specification
+     * @return A request specification owned by the caller
+     */
+    protected RequestSpecification request() {
+        return RestAssured.given().spec(baseSpec);
+    }
+    
+    /**
+     * Adds the token of the last successful login when the request is sent
+     * Invalidates the worker's cached browser session when the token is rejected
+     */
+    private Response authenticate(FilterableRequestSpecification request, FilterableResponseSpecification response,
+                                  FilterContext context) {
+        String token = authToken;
+        if (token == null || token.isEmpty()) {
+            return context.next(request, response);
+        }
+        request.replaceHeader("Authorization", "Bearer " + token);
+        Response result = context.next(request, response);
+        SessionStateCache.invalidateIfUnauthorized(result.getStatusCode());
+        return result;
     }
     
     /**
@@ -49,7 +95,7 @@ public class ApiBaseClass {
             loginPayload.put("username", username);
             loginPayload.put("password", password);
             
-            Response response = requestSpec
+            Response response = request()
                     .body(loginPayload)
                     .when()
                     .post("/api/auth/login")
@@ -57,11 +103,10 @@ public class ApiBaseClass {
                     .extract().response();
             
             if (response.getStatusCode() == 200 || response.getStatusCode() == 201) {
-                // Extract auth token from response
-                this.authToken = response.jsonPath().getString("token");
-                if (authToken != null && !authToken.isEmpty()) {
-                    // Add auth token to request specification
-                    requestSpec.header("Authorization", "Bearer " + authToken);
+                // Extract auth token from response; the auth filter sends it with later requests
+                String token = response.jsonPath().getString("token");
+                if (token != null && !token.isEmpty()) {
+                    this.authToken = token;
                     return true;
                 }
             }
@@ -87,7 +132,7 @@ public class ApiBaseClass {
      * @return Response object
      */
     public Response get(String endpoint) {
-        return requestSpec
+        return request()
                 .when()
                 .get(endpoint)
                 .then()
@@ -101,7 +146,7 @@ public class ApiBaseClass {
      * @return Response object
      */
     public Response post(String endpoint, Object payload) {
-        return requestSpec
+        return request()
                 .body(payload)
                 .when()
                 .post(endpoint)
@@ -116,7 +161,7 @@ public class ApiBaseClass {
      * @return Response object
      */
     public Response put(String endpoint, Object payload) {
-        return requestSpec
+        return request()
                 .body(payload)
                 .when()
                 .put(endpoint)
@@ -130,13 +175,90 @@ public class ApiBaseClass {
      * @return Response object
      */
     public Response delete(String endpoint) {
-        return requestSpec
+        return request()
                 .when()
                 .delete(endpoint)
                 .then()
                 .extract().response();
     }
     
+    /**
+     * Sends a GET request to the specified endpoint without blocking
+     * @param endpoint The API endpoint
+     * @return The response once it has arrived
+     */
+    public CompletableFuture<Response> getAsync(String endpoint) {
+        return sendAsync("GET", endpoint, null);
+    }
+    
+    /**
+     * Sends a POST request to the specified endpoint without blocking
+     * @param endpoint The API endpoint
+     * @param payload The request payload
+     * @return The response once it has arrived
+     */
+    public CompletableFuture<Response> postAsync(String endpoint, Object payload) {
+        return sendAsync("POST", endpoint, payload);
+    }
+    
+    /**
+     * Sends a PUT request to the specified endpoint without blocking
+     * @param endpoint The API endpoint
+     * @param payload The request payload
+     * @return The response once it has arrived
+     */
+    public CompletableFuture<Response> putAsync(String endpoint, Object payload) {
+        return sendAsync("PUT", endpoint, payload);
+    }
+    
+    /**
+     * Sends a DELETE request to the specified endpoint without blocking
+     * @param endpoint The API endpoint
+     * @return The response once it has arrived
+     */
+    public CompletableFuture<Response> deleteAsync(String endpoint) {
+        return sendAsync("DELETE", endpoint, null);
+    }
+    
+    /**
+     * Sends a JSON request through the shared async client with the current auth token
+     * @param method The HTTP method
+     * @param endpoint The API endpoint
+     * @param payload The request payload, or null for a request without body
+     * @return The response, completed exceptionally if the request cannot be sent
+     */
+    protected CompletableFuture<Response> sendAsync(String method, String endpoint, Object payload) {
+        try {
+            String base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(base + endpoint))
+                    .timeout(Duration.ofSeconds(ConfigManager.getApiAsyncRequestTimeout()))
+                    .header("Accept", "application/json");
+            String token = authToken;
+            boolean authenticated = token != null && !token.isEmpty();
+            if (authenticated) {
+                request.header("Authorization", "Bearer " + token);
+            }
+            if (payload != null) {
+                request.header("Content-Type", "application/json")
+                        .method(method, AsyncApiClient.json(payload));
+            } else {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+            CompletableFuture<Response> response = AsyncApiClient.send(request.build());
+            if (!authenticated) {
+                return response;
+            }
+            // The response completes on another thread, so revoke the session cached by this one
+            SessionStateCache.SessionState session = SessionStateCache.getCachedState();
+            return response.thenApply(result -> {
+                SessionStateCache.invalidateIfUnauthorized(session, result.getStatusCode());
+                return result;
+            });
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
     /**
      * Validates HTTP status code
      * @param response The API response
@@ -219,7 +341,7 @@ public class ApiBaseClass {
      */
     public boolean logout() {
         try {
-            Response response = requestSpec
+            Response response = request()
                     .when()
                     .post("/api/auth/logout")
                     .then()
@@ -0,0 +1,164 @@
+package com.automationframework.api;
+
+import com.automationframework.utils.ConfigManager;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.pool.PoolStats;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keep-alive HTTP connection pool shared by every API client in the JVM
+ * RestAssured opens a new client with its own connection for each request by default, so every
+ * call pays the TCP and TLS handshake. Clients created here are cheap and per request, as
+ * RestAssured changes client parameters while sending, but they all lease connections from one
+ * pool with a per-route limit. Connections are kept alive for the server's Keep-Alive timeout,
+ * capped by api.http.keepalive.timeout, and a background thread closes idle and expired ones
+ */
+@SuppressWarnings("deprecation")
+public class ApiConnectionPool {
+    
+    // Keeps connections for the server's Keep-Alive timeout, capped by the configured maximum
+    private static final ConnectionKeepAliveStrategy KEEP_ALIVE = (response, context) -> {
+        long maximum = TimeUnit.SECONDS.toMillis(ConfigManager.getApiConnectionKeepAliveTimeout());
+        long server = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        return server > 0 ? Math.min(server, maximum) : maximum;
+    };
+    
+    private static final AtomicLong created = new AtomicLong();
+    private static final AtomicLong leases = new AtomicLong();
+    
+    private static volatile PoolingClientConnectionManager connectionManager;
+    
+    private ApiConnectionPool() {
+    }
+    
+    /**
+     * Checks if API clients share the connection pool
+     * @return true if the pool is enabled, false to use RestAssured's default client per request
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isApiConnectionPoolEnabled();
+    }
+    
+    /**
+     * Creates the RestAssured client configuration that sends requests through the shared pool
+     * @param base The configuration to extend, e.g. RestAssured.config().getHttpClientConfig()
+     * @return The client configuration
+     */
+    public static HttpClientConfig httpClientConfig(HttpClientConfig base) {
+        return base.httpClientFactory(ApiConnectionPool::createHttpClient);
+    }
+    
+    /**
+     * Formats the pool state and how many requests reused an open connection
+     * @return The pool statistics, or an empty string if no connection was leased
+     */
+    public static String getSummary() {
+        PoolingClientConnectionManager manager = connectionManager;
+        long leased = leases.get();
+        if (manager == null || leased == 0) {
+            return "";
+        }
+        PoolStats stats = manager.getTotalStats();
+        long opened = created.get();
+        return String.format("API connections: %d requests, %d connections created, %d reused (%.0f%%), %d leased, %d available, %d max",
+                leased, opened, Math.max(0, leased - opened), Math.max(0, leased - opened) * 100.0 / leased,
+                stats.getLeased(), stats.getAvailable(), stats.getMax());
+    }
+    
+    private static DefaultHttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(getConnectionManager());
+        client.setKeepAliveStrategy(KEEP_ALIVE);
+        return client;
+    }
+    
+    private static PoolingClientConnectionManager getConnectionManager() {
+        PoolingClientConnectionManager manager = connectionManager;
+        if (manager == null) {
+            synchronized (ApiConnectionPool.class) {
+                manager = connectionManager;
+                if (manager == null) {
+                    manager = new CountingConnectionManager(SchemeRegistryFactory.createDefault());
+                    manager.setMaxTotal(Math.max(1, ConfigManager.getApiConnectionPoolMaxTotal()));
+                    manager.setDefaultMaxPerRoute(Math.max(1, ConfigManager.getApiConnectionPoolMaxPerRoute()));
+                    startEvictor(manager);
+                    connectionManager = manager;
+                }
+            }
+        }
+        return manager;
+    }
+    
+    /**
+     * Closes connections idle for longer than api.http.pool.idle.timeout and expired keep-alives
+     */
+    private static void startEvictor(PoolingClientConnectionManager manager) {
+        long idleSeconds = Math.max(1, ConfigManager.getApiConnectionPoolIdleTimeout());
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "api-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, idleSeconds / 2);
+        evictor.scheduleWithFixedDelay(() -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(idleSeconds, TimeUnit.SECONDS);
+        }, period, period, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Counts the connections the pool opens and the connections it hands out
+     */
+    private static final class CountingConnectionManager extends PoolingClientConnectionManager {
+        
+        CountingConnectionManager(SchemeRegistry schemes) {
+            super(schemes);
+        }
+        
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemes) {
+            return new DefaultClientConnectionOperator(schemes) {
+                @Override
+                public OperatedClientConnection createConnection() {
+                    created.incrementAndGet();
+                    return super.createConnection();
+                }
+            };
+        }
+        
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = super.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    ManagedClientConnection connection = request.getConnection(timeout, unit);
+                    leases.incrementAndGet();
+                    return connection;
+                }
+                
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.automationframework.api;
+
+import com.automationframework.utils.ConfigManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Non-blocking HTTP client shared by the async API methods
+ * Requests are sent through one java.net.http client that multiplexes them as HTTP/2 streams
+ * over few connections, falling back to HTTP/1.1 for servers without HTTP/2. Responses are
+ * handled on virtual threads where the JVM has them (Java 21+) and on a cached pool of daemon
+ * threads otherwise, so no thread waits for a request in flight. At most
+ * api.async.max.in.flight requests run at once; further sends are queued and started by the
+ * completion of an earlier request, so callers never block on a free slot
+ */
+public class AsyncApiClient {
+    
+    private static final ObjectMapper mapper = new ObjectMapper();
+    
+    private static final AtomicLong sent = new AtomicLong();
+    private static final AtomicLong failed = new AtomicLong();
+    private static final AtomicLong http2 = new AtomicLong();
+    private static final AtomicLong totalNanos = new AtomicLong();
+    private static final AtomicLong inFlight = new AtomicLong();
+    private static final AtomicLong maxInFlight = new AtomicLong();
+    
+    private static final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    
+    private static volatile HttpClient client;
+    private static volatile Semaphore slots;
+    private static volatile boolean virtualThreads;
+    
+    private AsyncApiClient() {
+    }
+    
+    /**
+     * Sends a request without blocking and converts the reply into a RestAssured response,
+     * so the validation helpers of ApiBaseClass apply to it
+     * @param request The request to send
+     * @return The response, completed exceptionally if the request fails
+     */
+    public static CompletableFuture<Response> send(HttpRequest request) {
+        HttpClient httpClient = getClient();
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        pending.add(() -> start(httpClient, request, result));
+        startPending();
+        return result;
+    }
+    
+    /**
+     * Starts queued sends while slots are free
+     * Runs after every enqueue and every completion, so a send queued while all slots were taken
+     * is started by whichever request finishes next
+     */
+    private static void startPending() {
+        while (!pending.isEmpty() && slots.tryAcquire()) {
+            Runnable next = pending.poll();
+            if (next == null) {
+                slots.release();
+            } else {
+                next.run();
+            }
+        }
+    }
+    
+    private static void start(HttpClient httpClient, HttpRequest request, CompletableFuture<Response> result) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> reply;
+        try {
+            reply = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            reply = CompletableFuture.failedFuture(e);
+        }
+        reply.whenComplete((response, error) -> {
+            long nanos = System.nanoTime() - start;
+            inFlight.decrementAndGet();
+            sent.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            if (error != null) {
+                failed.incrementAndGet();
+            } else if (response.version() == HttpClient.Version.HTTP_2) {
+                http2.incrementAndGet();
+            }
+            slots.release();
+            startPending();
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            try {
+                result.complete(toResponse(response, nanos));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+    
+    /**
+     * Serializes a payload to a JSON request body
+     * @param payload The payload, e.g. a map or a bean
+     * @return The request body
+     * @throws UncheckedIOException if the payload cannot be serialized
+     */
+    public static HttpRequest.BodyPublisher json(Object payload) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to serialize request payload", e);
+        }
+    }
+    
+    /**
+     * Formats the number, protocol and duration of the async requests
+     * @return The async request statistics, or an empty string if no request was sent
+     */
+    public static String getSummary() {
+        long count = sent.get();
+        if (count == 0) {
+            return "";
+        }
+        return String.format("Async API requests: %d sent, %d failed, %d over HTTP/2, %d max in flight, %.0f ms average, %s threads",
+                count, failed.get(), http2.get(), maxInFlight.get(), totalNanos.get() / 1e6 / count,
+                virtualThreads ? "virtual" : "platform");
+    }
+    
+    private static HttpClient getClient() {
+        HttpClient httpClient = client;
+        if (httpClient == null) {
+            synchronized (AsyncApiClient.class) {
+                httpClient = client;
+                if (httpClient == null) {
+                    slots = new Semaphore(Math.max(1, ConfigManager.getApiAsyncMaxInFlight()));
+                    httpClient = HttpClient.newBuilder()
+                            .version(HttpClient.Version.valueOf(ConfigManager.getApiAsyncHttpVersion().toUpperCase(Locale.ROOT)))
+                            .connectTimeout(Duration.ofSeconds(ConfigManager.getApiAsyncConnectTimeout()))
+                            .followRedirects(HttpClient.Redirect.NORMAL)
+                            .executor(createExecutor())
+                            .build();
+                    client = httpClient;
+                }
+            }
+        }
+        return httpClient;
+    }
+    
+    /**
+     * Uses a virtual thread per task where the JVM supports it; looked up reflectively so the
+     * framework still runs on Java 11
+     */
+    private static ExecutorService createExecutor() {
+        if (ConfigManager.isApiAsyncVirtualThreadsEnabled()) {
+            try {
+                ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                virtualThreads = true;
+                return executor;
+            } catch (ReflectiveOperationException e) {
+                // Virtual threads need Java 21
+            }
+        }
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "api-async");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    private static Response toResponse(HttpResponse<byte[]> reply, long nanos) {
+        List<Header> headers = new ArrayList<>();
+        reply.headers().map().forEach((name, values) -> values.forEach(value -> headers.add(new Header(name, value))));
+        String version = reply.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        Response response = new ResponseBuilder()
+                .setStatusCode(reply.statusCode())
+                .setStatusLine(version + " " + reply.statusCode())
+                .setHeaders(new Headers(headers))
+                .setContentType(reply.headers().firstValue("Content-Type").orElse(""))
+                .setBody(reply.body())
+                .build();
+        setResponseTime(response, TimeUnit.NANOSECONDS.toMillis(nanos));
+        return response;
+    }
+    
+    /**
+     * Makes getTime() report the round trip, as it does for RestAssured's own requests
+     * RestAssured only stores the time through a method of its internal response class, so it is
+     * looked up reflectively; without it getTime() reports -1 like any built response
+     * @param response The built response
+     * @param millis The round trip in milliseconds
+     */
+    private static void setResponseTime(Response response, long millis) {
+        try {
+            Method setter = response.getClass().getMethod("setFilterContextProperties", Map.class);
+            setter.invoke(response, Collections.singletonMap(TimingFilter.RESPONSE_TIME_MILLISECONDS, millis));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Internal API changed; the response is still usable without a time
+        }
+    }
+}
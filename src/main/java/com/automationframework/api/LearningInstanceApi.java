@@ -6,6 +6,7 @@ import com.github.javafaker.Faker;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * API class for Learning Instance operations
@@ -46,15 +47,7 @@ public class LearningInstanceApi extends ApiBaseClass {
      * @return Response object
      */
     public Response createLearningInstance(String name, String description, String type, String status) {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("name", name);
-        payload.put("description", description);
-        payload.put("type", type);
-        payload.put("status", status);
-        payload.put("createdBy", TestDataProvider.VALID_USERNAME);
-        payload.put("createdAt", System.currentTimeMillis());
-        
-        return post(LEARNING_INSTANCES_ENDPOINT, payload);
+        return post(LEARNING_INSTANCES_ENDPOINT, createLearningInstancePayload(name, description, type, status));
     }
     
     /**
@@ -105,6 +98,82 @@ public class LearningInstanceApi extends ApiBaseClass {
         return delete(endpoint);
     }
     
+    /**
+     * Creates a new Learning Instance with default test data without blocking
+     * @return The response once it has arrived
+     */
+    public CompletableFuture<Response> createLearningInstanceAsync() {
+        return postAsync(LEARNING_INSTANCES_ENDPOINT, createDefaultLearningInstancePayload());
+    }
+    
+    /**
+     * Creates a Learning Instance with custom data without blocking
+     * @param name The name of the learning instance
+     * @param description The description of the learning instance
+     * @param type The type of learning instance
+     * @param status The initial status
+     * @return The response once it has arrived
+     */
+    public CompletableFuture<Response> createLearningInstanceAsync(String name, String description, String type, String status) {
+        return postAsync(LEARNING_INSTANCES_ENDPOINT, createLearningInstancePayload(name, description, type, status));
+    }
+    
+    /**
+     * Retrieves a Learning Instance by ID without blocking
+     * @param instanceId The ID of the learning instance
+     * @return The response once it has arrived
+     */
+    public CompletableFuture<Response> getLearningInstanceByIdAsync(String instanceId) {
+        return getAsync(LEARNING_INSTANCE_BY_ID_ENDPOINT.replace("{id}", instanceId));
+    }
+    
+    /**
+     * Retrieves all Learning Instances without blocking
+     * @return The response once it has arrived
+     */
+    public CompletableFuture<Response> getAllLearningInstancesAsync() {
+        return getAsync(LEARNING_INSTANCES_ENDPOINT);
+    }
+    
+    /**
+     * Updates a Learning Instance without blocking
+     * @param instanceId The ID of the learning instance to update
+     * @param updatePayload The update payload
+     * @return The response once it has arrived
+     */
+    public CompletableFuture<Response> updateLearningInstanceAsync(String instanceId, Map<String, Object> updatePayload) {
+        return putAsync(LEARNING_INSTANCE_BY_ID_ENDPOINT.replace("{id}", instanceId), updatePayload);
+    }
+    
+    /**
+     * Deletes a Learning Instance without blocking
+     * @param instanceId The ID of the learning instance to delete
+     * @return The response once it has arrived
+     */
+    public CompletableFuture<Response> deleteLearningInstanceAsync(String instanceId) {
+        return deleteAsync(LEARNING_INSTANCE_BY_ID_ENDPOINT.replace("{id}", instanceId));
+    }
+    
+    /**
+     * Creates test data for Learning Instance from the given values
+     * @param name The name of the learning instance
+     * @param description The description of the learning instance
+     * @param type The type of learning instance
+     * @param status The initial status
+     * @return Map containing the test data
+     */
+    private Map<String, Object> createLearningInstancePayload(String name, String description, String type, String status) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("name", name);
+        payload.put("description", description);
+        payload.put("type", type);
+        payload.put("status", status);
+        payload.put("createdBy", TestDataProvider.VALID_USERNAME);
+        payload.put("createdAt", System.currentTimeMillis());
+        
+        return payload;
+    }
+    
     /**
      * Creates default test data for Learning Instance
      * @return Map containing default test data
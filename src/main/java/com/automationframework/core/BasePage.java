@@ -3,13 +3,26 @@ package com.automationframework.core;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
 import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.pagefactory.Annotations;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.lang.reflect.Field;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract base class for all page objects
@@ -17,17 +30,126 @@ import java.time.Duration;
  */
 public abstract class BasePage {
     
+    private static final String VISIBILITY_SCRIPT =
+            ElementWaiter.LOCATE_FUNCTION
+            + ElementWaiter.VISIBLE_FUNCTION
+            + "var targets = arguments[0], result = [];"
+            + "for (var i = 0; i < targets.length; i++) {"
+            + "  var t = targets[i], e = null;"
+            + "  try { e = !t || t.nodeType === 1 ? t : locateTarget(t); } catch (err) { e = null; }"
+            + "  result.push(visible(e));"
+            + "}"
+            + "return result;";
+    
+    private static final String FILLED = "ok";
+    private static final String MISSING = "missing";
+    private static final String UNSUPPORTED = "unsupported";
+    private static final String NO_OPTION = "no-option";
+    // Values that check a checkbox or radio; anything else unchecks it
+    private static final String CHECKED_VALUES = "(?i)true|on|yes|checked|1";
+    
+    private static final String FILL_SCRIPT =
+            ElementWaiter.LOCATE_FUNCTION
+            + DropdownSelector.MATCH_FUNCTION
+            + TextEntry.FIELD_FUNCTIONS
+            + "var targets = arguments[0], values = arguments[1], result = [];"
+            + "function fire(e, type) { e.dispatchEvent(new Event(type, { bubbles: true })); }"
+            + "function fill(e, value) {"
+            + "  if (!e) { return 'missing'; }"
+            + "  if (e.disabled || e.readOnly) { return 'disabled'; }"
+            + "  var tag = e.tagName.toLowerCase(), type = (e.type || '').toLowerCase();"
+            + "  if (tag === 'input' && (type === 'checkbox' || type === 'radio')) {"
+            + "    var wanted = /^(true|on|yes|checked|1)$/i.test(value);"
+            // click() toggles the box and fires click, input and change like a user would
+            + "    if (e.checked !== wanted) { e.click(); }"
+            + "    return 'ok';"
+            + "  }"
+            + "  if (tag === 'select') {"
+            + "    for (var i = 0; i < e.options.length; i++) {"
+            + "      var option = e.options[i];"
+            + "      if (option.value === value || matchesText(option.text, value)) {"
+            + "        e.selectedIndex = i; fire(e, 'input'); fire(e, 'change'); return 'ok';"
+            + "      }"
+            + "    }"
+            + "    return 'no-option';"
+            + "  }"
+            // File inputs, comboboxes and other keyed fields are left to the caller's fallback
+            + "  if (tag === 'input' || tag === 'textarea') {"
+            + "    if (!isTextField(e) || isKeyed(e)) { return 'unsupported'; }"
+            // The prototype setter bypasses per-instance value trackers so frameworks see the change
+            + "    var proto = tag === 'input' ? HTMLInputElement.prototype : HTMLTextAreaElement.prototype;"
+            + "    e.focus();"
+            + "    Object.getOwnPropertyDescriptor(proto, 'value').set.call(e, value);"
+            + "    fire(e, 'input'); fire(e, 'change');"
+            + "    e.blur();"
+            + "    return 'ok';"
+            + "  }"
+            + "  if (e.isContentEditable) { e.focus(); e.textContent = value; fire(e, 'input'); e.blur(); return 'ok'; }"
+            + "  return 'unsupported';"
+            + "}"
+            + "for (var i = 0; i < targets.length; i++) {"
+            + "  var t = targets[i], e = null;"
+            + "  try { e = t.nodeType === 1 ? t : locateTarget(t); } catch (err) { e = null; }"
+            + "  result.push(fill(e, values[i]));"
+            + "}"
+            + "return result;";
+    
+    private static final String READ_VALUES_SCRIPT =
+            ElementWaiter.LOCATE_FUNCTION
+            + "var targets = arguments[0], result = [];"
+            + "for (var i = 0; i < targets.length; i++) {"
+            + "  var t = targets[i], e = null;"
+            + "  try { e = t.nodeType === 1 ? t : locateTarget(t); } catch (err) { e = null; }"
+            + "  var type = e ? (e.type || '').toLowerCase() : '';"
+            + "  if (!e) { result.push(null); }"
+            + "  else if (type === 'checkbox' || type === 'radio') { result.push({ toggle: true, checked: e.checked }); }"
+            + "  else if (e.tagName.toLowerCase() === 'select') {"
+            + "    var option = e.options[e.selectedIndex];"
+            + "    result.push(option ? { option: true, value: option.value, text: option.text } : { values: [''] });"
+            + "  }"
+            + "  else if ('value' in e) { result.push({ values: [e.value] }); }"
+            + "  else { result.push({ values: [e.textContent] }); }"
+            + "}"
+            + "return result;";
+    
+    private static final Map<Class<?>, Map<Field, By>> fieldLocators = new ConcurrentHashMap<>();
+    
     protected WebDriver driver;
     protected WebDriverWait wait;
+    protected ElementWaiter waiter;
     protected Actions actions;
     protected JavascriptExecutor jsExecutor;
+    private Map<WebElement, By> elementLocators;
+    
+    /**
+     * Creates the page for the WebDriver registered on the current thread
+     */
+    public BasePage() {
+        this(DriverManager.getDriver());
+    }
     
     public BasePage(WebDriver driver) {
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver available for page " + getClass().getSimpleName()
+                    + " on thread " + Thread.currentThread().getName());
+        }
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.waiter = new ElementWaiter(driver, wait, Duration.ofSeconds(10));
         this.actions = new Actions(driver);
         this.jsExecutor = (JavascriptExecutor) driver;
-        PageFactory.initElements(driver, this);
+        initElements();
+    }
+    
+    /**
+     * Initializes the annotated element fields with the generated binder of the page,
+     * or with caching PageFactory proxies when the page has none
+     */
+    private void initElements() {
+        if (PageElements.isEnabled() && PageElements.bind(this, driver)) {
+            return;
+        }
+        PageFactory.initElements(new CachingFieldDecorator(driver), this);
     }
     
     /**
@@ -38,7 +160,7 @@ public abstract class BasePage {
      */
     public WebElement findElement(WebElement element) throws WebExceptions {
         try {
-            return wait.until(ExpectedConditions.visibilityOf(element));
+            return waiter.waitForVisible(element);
         } catch (Exception e) {
             throw new WebExceptions(WebExceptions.ExceptionType.ELEMENT_NOT_FOUND,
                     "Element not found or not visible: " + element);
@@ -53,7 +175,7 @@ public abstract class BasePage {
      */
     public WebElement findClickableElement(WebElement element) throws WebExceptions {
         try {
-            return wait.until(ExpectedConditions.elementToBeClickable(element));
+            return waiter.waitForClickable(element);
         } catch (Exception e) {
             throw new WebExceptions(WebExceptions.ExceptionType.ELEMENT_NOT_CLICKABLE,
                     "Element not clickable: " + element);
@@ -76,14 +198,30 @@ public abstract class BasePage {
     }
     
     /**
-     * Enters text into an element after ensuring it's visible
+     * Enters text into an element after ensuring it's visible, using the text entry mode of the page
      * @param element The WebElement to enter text into
      * @param text The text to enter
      * @throws WebExceptions if text cannot be entered
      */
     public void enterText(WebElement element, String text) throws WebExceptions {
+        enterText(element, text, getTextEntryMode());
+    }
+    
+    /**
+     * Enters text into an element after ensuring it's visible
+     * With insert, and with auto for texts of at least text.entry.insert.min.length characters,
+     * the text replaces the content in one operation; fields that need keystrokes are typed
+     * @param element The WebElement to enter text into
+     * @param text The text to enter
+     * @param mode TextEntry.TYPE, TextEntry.INSERT or TextEntry.AUTO
+     * @throws WebExceptions if text cannot be entered
+     */
+    public void enterText(WebElement element, String text, String mode) throws WebExceptions {
         try {
             WebElement visibleElement = findElement(element);
+            if (TextEntry.insert(driver, visibleElement, text, mode)) {
+                return;
+            }
             visibleElement.clear();
             visibleElement.sendKeys(text);
         } catch (Exception e) {
@@ -92,6 +230,123 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Gets the text entry mode used by enterText; pages override this to type or insert by default
+     * @return TextEntry.TYPE, TextEntry.INSERT or TextEntry.AUTO
+     */
+    protected String getTextEntryMode() {
+        return TextEntry.getDefaultMode();
+    }
+    
+    /**
+     * Fills several form fields in a single script execution
+     * @param values Map of field locators to values, filled in iteration order
+     * @return Locators of fields the script cannot fill, such as custom dropdowns, autocompletes
+     *         and file inputs, so callers can fall back
+     * @throws WebExceptions if a field is missing, disabled or has no matching option
+     */
+    public List<By> fillFields(Map<By, String> values) throws WebExceptions {
+        return fillFields(values, false);
+    }
+    
+    /**
+     * Fills several form fields in a single script execution
+     * Text inputs and textareas are set through the native value setter followed by input and
+     * change events, selects pick the option by value or visible text as selectOption does, and checkboxes and radios
+     * are clicked when their state differs from true/false in the value
+     * @param values Map of field locators to values, filled in iteration order
+     * @param verify Whether to read all values back in one more call and compare them
+     * @return Locators of fields the script cannot fill, such as custom dropdowns, autocompletes
+     *         and file inputs, so callers can fall back
+     * @throws WebExceptions if a field is missing, disabled, has no matching option or fails verification
+     */
+    public List<By> fillFields(Map<By, String> values, boolean verify) throws WebExceptions {
+        List<By> locators = new ArrayList<>(values.keySet());
+        List<String> texts = new ArrayList<>(values.values());
+        List<Object> targets = new ArrayList<>();
+        for (By locator : locators) {
+            Object target = toInPageTarget(locator);
+            targets.add(target != null ? target : findElementByLocator(locator));
+        }
+        
+        List<String> statuses = runFillScript(targets, texts);
+        // Fields rendered late get one visibility wait and a second pass
+        List<Integer> missing = indexesOf(statuses, MISSING);
+        if (!missing.isEmpty()) {
+            List<Object> retryTargets = new ArrayList<>();
+            List<String> retryTexts = new ArrayList<>();
+            for (int index : missing) {
+                findElementByLocator(locators.get(index));
+                retryTargets.add(targets.get(index));
+                retryTexts.add(texts.get(index));
+            }
+            List<String> retried = runFillScript(retryTargets, retryTexts);
+            for (int i = 0; i < missing.size(); i++) {
+                statuses.set(missing.get(i), retried.get(i));
+            }
+        }
+        
+        List<By> unfilled = new ArrayList<>();
+        List<Object> filledTargets = new ArrayList<>();
+        List<Integer> filled = new ArrayList<>();
+        for (int i = 0; i < statuses.size(); i++) {
+            String status = statuses.get(i);
+            if (UNSUPPORTED.equals(status)) {
+                unfilled.add(locators.get(i));
+            } else if (NO_OPTION.equals(status)) {
+                throw new WebExceptions(WebExceptions.ExceptionType.ELEMENT_NOT_FOUND,
+                        "No option '" + texts.get(i) + "' in field: " + locators.get(i));
+            } else if (!FILLED.equals(status)) {
+                throw new WebExceptions(WebExceptions.ExceptionType.ELEMENT_NOT_FOUND,
+                        "Failed to fill field (" + status + "): " + locators.get(i));
+            } else {
+                filledTargets.add(targets.get(i));
+                filled.add(i);
+            }
+        }
+        
+        if (verify && !filledTargets.isEmpty()) {
+            verifyFieldValues(filledTargets, filled, locators, texts);
+        }
+        return unfilled;
+    }
+    
+    /**
+     * Selects an option in a native select or a custom dropdown widget
+     * Runs as one async script: native selects are set directly, custom widgets are opened,
+     * filtered if needed and the option clicked as soon as it renders. The result is verified
+     * from the widget's displayed value in the same call
+     * @param dropdown The dropdown element
+     * @param option The option value or visible text to select
+     * @throws WebExceptions if the dropdown or option is not found or the selection does not stick
+     */
+    public void selectOption(WebElement dropdown, String option) throws WebExceptions {
+        By locator = getLocator(dropdown);
+        Object target = locator == null ? null : toInPageTarget(locator);
+        Map<String, Object> result;
+        try {
+            result = DropdownSelector.select(jsExecutor, target != null ? target : findClickableElement(dropdown),
+                    option, Duration.ofSeconds(10));
+            if (DropdownSelector.MISSING.equals(result.get("status"))) {
+                // Not rendered yet: wait once, then hand the resolved element to the script
+                result = DropdownSelector.select(jsExecutor, findClickableElement(dropdown), option, Duration.ofSeconds(10));
+            }
+        } catch (WebDriverException e) {
+            throw new WebExceptions(WebExceptions.ExceptionType.WEB_DRIVER_EXCEPTION,
+                    "Failed to select '" + option + "' in dropdown: " + dropdown, e);
+        }
+        
+        String status = String.valueOf(result.get("status"));
+        if (DropdownSelector.NO_OPTION.equals(status) || DropdownSelector.MISSING.equals(status)) {
+            throw new WebExceptions(WebExceptions.ExceptionType.ELEMENT_NOT_FOUND,
+                    "Option '" + option + "' not found in dropdown: " + dropdown);
+        }
+        if (DropdownSelector.UNVERIFIED.equals(status)) {
+            throw new WebExceptions(WebExceptions.ExceptionType.GENERAL_EXCEPTION,
+                    "Dropdown shows '" + result.get("selected") + "' after selecting '" + option + "': " + dropdown);
+        }
+    }
+    
     /**
      * Gets text from an element after ensuring it's visible
      * @param element The WebElement to get text from
@@ -121,6 +376,135 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Checks the visibility of several elements in a single script execution
+     * Page factory elements are located in the page by their @FindBy locator instead of one
+     * driver lookup each, so missing elements are reported as not visible
+     * @param elements The WebElements to check
+     * @return Map of each element to its visibility, keyed by identity
+     */
+    public Map<WebElement, Boolean> getElementsVisibility(WebElement... elements) {
+        List<Object> targets = new ArrayList<>();
+        for (WebElement element : elements) {
+            By locator = getLocator(element);
+            Object target = locator == null ? null : toInPageTarget(locator);
+            targets.add(target != null ? target : element);
+        }
+        
+        List<Boolean> visibility = evaluateVisibility(targets);
+        Map<WebElement, Boolean> result = new IdentityHashMap<>();
+        for (int i = 0; i < elements.length; i++) {
+            result.put(elements[i], visibility != null ? visibility.get(i) : isElementVisible(elements[i]));
+        }
+        return result;
+    }
+    
+    /**
+     * Checks if all elements are visible using a single script execution
+     * @param elements The WebElements to check
+     * @return true if every element is visible, false otherwise
+     */
+    public boolean areElementsVisible(WebElement... elements) {
+        return !getElementsVisibility(elements).containsValue(Boolean.FALSE);
+    }
+    
+    /**
+     * Checks the visibility of the first element matching each locator in a single script execution
+     * Locators the page cannot evaluate (e.g. chained locators) are resolved by the driver first
+     * @param locators The By locators to check
+     * @return Map of each locator to the visibility of its first match, in the given order
+     */
+    public Map<By, Boolean> getVisibilityByLocators(By... locators) {
+        List<Object> targets = new ArrayList<>();
+        for (By locator : locators) {
+            Object target = toInPageTarget(locator);
+            if (target == null) {
+                List<WebElement> matches = driver.findElements(locator);
+                target = matches.isEmpty() ? null : matches.get(0);
+            }
+            targets.add(target);
+        }
+        
+        List<Boolean> visibility = evaluateVisibility(targets);
+        Map<By, Boolean> result = new LinkedHashMap<>();
+        for (int i = 0; i < locators.length; i++) {
+            boolean visible;
+            if (visibility != null) {
+                visible = visibility.get(i);
+            } else {
+                visible = targets.get(i) instanceof WebElement && isElementVisible((WebElement) targets.get(i));
+            }
+            result.put(locators[i], visible);
+        }
+        return result;
+    }
+    
+    /**
+     * Gets the locator of a page factory element declared on this page
+     * The locator goes through LocatorRewriter, so the batched page scripts use the same mapping
+     * as driver lookups and fall back to the declared locator in the page
+     * @param element The WebElement field value
+     * @return The By to use for the field's @FindBy, @FindBys or @FindAll, or null if unknown
+     */
+    protected By getLocator(WebElement element) {
+        if (element instanceof LazyWebElement) {
+            LazyWebElement lazyElement = (LazyWebElement) element;
+            return LocatorRewriter.rewrite(lazyElement.getName(), lazyElement.getBy());
+        }
+        if (elementLocators == null) {
+            Map<WebElement, By> locators = new IdentityHashMap<>();
+            for (Map.Entry<Field, By> entry : getFieldLocators(getClass()).entrySet()) {
+                try {
+                    Object value = entry.getKey().get(this);
+                    if (value instanceof WebElement) {
+                        Field field = entry.getKey();
+                        String name = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+                        locators.put((WebElement) value, LocatorRewriter.rewrite(name, entry.getValue()));
+                    }
+                } catch (IllegalAccessException e) {
+                    System.err.println("Failed to read locator field " + entry.getKey().getName() + ": " + e.getMessage());
+                }
+            }
+            elementLocators = locators;
+        }
+        return elementLocators.get(element);
+    }
+    
+    /**
+     * Gets the in-page locator of a page factory element for scripts that locate it themselves,
+     * e.g. elements that are not rendered yet when the script starts
+     * @param element The WebElement field value
+     * @return Map with using and value, or null if the element has no in-page locator
+     */
+    protected Map<String, Object> getInPageTarget(WebElement element) {
+        By locator = getLocator(element);
+        return locator == null ? null : toInPageTarget(locator);
+    }
+    
+    /**
+     * Quotes text for use as a string literal in an XPath expression
+     * XPath 1.0 has no escapes, so text with both quote characters is built with concat()
+     * @param text The text to quote
+     * @return The XPath string literal or concat() expression
+     */
+    protected static String toXPathLiteral(String text) {
+        if (!text.contains("'")) {
+            return "'" + text + "'";
+        }
+        if (!text.contains("\"")) {
+            return "\"" + text + "\"";
+        }
+        StringBuilder literal = new StringBuilder("concat(");
+        String[] parts = text.split("'", -1);
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                literal.append(", \"'\", ");
+            }
+            literal.append('\'').append(parts[i]).append('\'');
+        }
+        return literal.append(')').toString();
+    }
+    
     /**
      * Waits for element to be visible by locator
      * @param locator The By locator
@@ -129,7 +513,7 @@ public abstract class BasePage {
      */
     public WebElement findElementByLocator(By locator) throws WebExceptions {
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            return waiter.waitForVisible(locator);
         } catch (Exception e) {
             throw new WebExceptions(WebExceptions.ExceptionType.ELEMENT_NOT_FOUND,
                     "Element not found or not visible by locator: " + locator);
@@ -163,15 +547,60 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Drags an element onto a target using the configured drag and drop strategy
+     * @param source The WebElement to drag
+     * @param target The WebElement to drop on
+     * @throws WebExceptions if the drop fails
+     */
+    public void dragAndDrop(WebElement source, WebElement target) throws WebExceptions {
+        dragAndDropAll(Collections.singletonList(source), Collections.singletonList(target));
+    }
+    
+    /**
+     * Drags each source onto the target at the same index
+     * With the script or auto strategy all pairs run as simulated HTML5 drag events in one
+     * script call; with auto, targets that are not HTML5 drop zones fall back to Actions
+     * @param sources The WebElements to drag
+     * @param targets The WebElements to drop on
+     * @throws WebExceptions if any drop fails
+     */
+    public void dragAndDropAll(List<WebElement> sources, List<WebElement> targets) throws WebExceptions {
+        dragAndDropHandles(new ArrayList<Object>(sources), new ArrayList<Object>(targets));
+    }
+    
+    /**
+     * Drags the first match of each source locator onto the first match of the target locator at the same index
+     * Locators are resolved in the page, so large batches cost a single script call
+     * @param sources The locators of the elements to drag
+     * @param targets The locators of the elements to drop on
+     * @throws WebExceptions if any drop fails
+     */
+    public void dragAndDropAllByLocators(List<By> sources, List<By> targets) throws WebExceptions {
+        dragAndDropHandles(new ArrayList<Object>(sources), new ArrayList<Object>(targets));
+    }
+    
     /**
      * Waits for page to load completely
+     * In smart readiness mode this returns after one check when the last action neither
+     * navigated nor started a request, and otherwise waits for network idle and a quiet DOM
+     * @return true if a navigation may have happened, false if the document is unchanged
      */
-    public void waitForPageLoad() {
+    public boolean waitForPageLoad() {
         try {
+            if (PageReadiness.isSmartModeEnabled()) {
+                boolean navigated = PageReadiness.waitUntilReady(driver, Duration.ofSeconds(10));
+                if (navigated) {
+                    ElementCache.invalidate(driver);
+                }
+                return navigated;
+            }
             wait.until(webDriver -> jsExecutor.executeScript("return document.readyState").equals("complete"));
         } catch (Exception e) {
             System.err.println("Page load wait failed: " + e.getMessage());
         }
+        ElementCache.invalidate(driver);
+        return true;
     }
     
     /**
@@ -189,4 +618,198 @@ public abstract class BasePage {
     public String getCurrentUrl() {
         return driver.getCurrentUrl();
     }
+    
+    /**
+     * Runs the batched visibility script
+     * @param targets Elements, in-page locators or null for elements known to be missing
+     * @return Visibility per target, or null if the batch could not be evaluated
+     */
+    @SuppressWarnings("unchecked")
+    private List<Boolean> evaluateVisibility(List<Object> targets) {
+        try {
+            List<Boolean> visibility = (List<Boolean>) jsExecutor.executeScript(VISIBILITY_SCRIPT, targets);
+            LocatorProfiler.collectInPage(jsExecutor);
+            return visibility;
+        } catch (WebDriverException e) {
+            // A page factory element without a known locator that is not in the DOM fails the whole batch
+            return null;
+        }
+    }
+    
+    private static Map<String, Object> toInPageTarget(By locator) {
+        return ElementWaiter.toInPageTarget(locator);
+    }
+    
+    /**
+     * Builds the locators of the annotated WebElement fields of a page class once
+     * @param pageClass The page class
+     * @return Map of accessible fields to their locators
+     */
+    private static Map<Field, By> getFieldLocators(Class<?> pageClass) {
+        return fieldLocators.computeIfAbsent(pageClass, type -> {
+            Map<Field, By> locators = new HashMap<>();
+            for (Class<?> current = type; current != null && current != BasePage.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (field.getType() == WebElement.class && (field.isAnnotationPresent(FindBy.class)
+                            || field.isAnnotationPresent(FindBys.class) || field.isAnnotationPresent(FindAll.class))) {
+                        field.setAccessible(true);
+                        locators.put(field, new Annotations(field).buildBy());
+                    }
+                }
+            }
+            return Collections.unmodifiableMap(locators);
+        });
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<String> runFillScript(List<Object> targets, List<String> values) throws WebExceptions {
+        try {
+            List<String> statuses = new ArrayList<>((List<String>) jsExecutor.executeScript(FILL_SCRIPT, targets, values));
+            LocatorProfiler.collectInPage(jsExecutor);
+            return statuses;
+        } catch (WebDriverException e) {
+            throw new WebExceptions(WebExceptions.ExceptionType.WEB_DRIVER_EXCEPTION,
+                    "Failed to fill form fields: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Reads the filled fields back in one call and compares them with the expected values
+     * Select fields match the option value or its visible text as DropdownSelector.matchesOption does
+     * @param targets The in-page targets of the filled fields
+     * @param indexes Index of each target in the original field list
+     * @param locators The locators of all fields
+     * @param expected The expected values of all fields
+     * @throws WebExceptions if a field does not hold its expected value
+     */
+    @SuppressWarnings("unchecked")
+    private void verifyFieldValues(List<Object> targets, List<Integer> indexes, List<By> locators,
+                                   List<String> expected) throws WebExceptions {
+        List<Map<String, Object>> actual;
+        try {
+            actual = (List<Map<String, Object>>) jsExecutor.executeScript(READ_VALUES_SCRIPT, targets);
+            LocatorProfiler.collectInPage(jsExecutor);
+        } catch (WebDriverException e) {
+            throw new WebExceptions(WebExceptions.ExceptionType.WEB_DRIVER_EXCEPTION,
+                    "Failed to read back form fields: " + e.getMessage(), e);
+        }
+        
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            String wanted = expected.get(index);
+            Map<String, Object> read = actual.get(i);
+            boolean matches;
+            if (read == null) {
+                matches = false;
+            } else if (Boolean.TRUE.equals(read.get("toggle"))) {
+                matches = read.get("checked").equals(wanted.matches(CHECKED_VALUES));
+            } else if (Boolean.TRUE.equals(read.get("option"))) {
+                matches = DropdownSelector.matchesOption((String) read.get("value"), (String) read.get("text"), wanted);
+            } else {
+                matches = ((List<Object>) read.get("values")).contains(wanted);
+            }
+            if (!matches) {
+                throw new WebExceptions(WebExceptions.ExceptionType.GENERAL_EXCEPTION,
+                        "Field " + locators.get(index) + " does not hold '" + wanted + "' after filling: " + read);
+            }
+        }
+    }
+    
+    private static List<Integer> indexesOf(List<String> statuses, String status) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < statuses.size(); i++) {
+            if (status.equals(statuses.get(i))) {
+                indexes.add(i);
+            }
+        }
+        return indexes;
+    }
+    
+    /**
+     * Drops sources on targets given as WebElements or By locators
+     * @param sources The elements or locators to drag
+     * @param targets The elements or locators to drop on
+     * @throws WebExceptions if any drop fails
+     */
+    private void dragAndDropHandles(List<Object> sources, List<Object> targets) throws WebExceptions {
+        if (sources.size() != targets.size()) {
+            throw new IllegalArgumentException("Got " + sources.size() + " sources for " + targets.size() + " targets");
+        }
+        
+        String strategy = DragAndDropSimulator.getStrategy();
+        if (DragAndDropSimulator.ACTIONS_STRATEGY.equals(strategy)) {
+            for (int i = 0; i < sources.size(); i++) {
+                dragAndDropWithActions(sources.get(i), targets.get(i));
+            }
+            return;
+        }
+        
+        List<Object> scriptSources = new ArrayList<>();
+        List<Object> scriptTargets = new ArrayList<>();
+        for (int i = 0; i < sources.size(); i++) {
+            scriptSources.add(toScriptHandle(sources.get(i)));
+            scriptTargets.add(toScriptHandle(targets.get(i)));
+        }
+        List<String> statuses = runDragAndDropScript(scriptSources, scriptTargets);
+        
+        // Elements rendered late get one visibility wait and a second pass
+        List<Integer> missing = indexesOf(statuses, DragAndDropSimulator.MISSING);
+        if (!missing.isEmpty()) {
+            List<Object> retrySources = new ArrayList<>();
+            List<Object> retryTargets = new ArrayList<>();
+            for (int index : missing) {
+                retrySources.add(resolveHandle(sources.get(index)));
+                retryTargets.add(resolveHandle(targets.get(index)));
+            }
+            List<String> retried = runDragAndDropScript(retrySources, retryTargets);
+            for (int i = 0; i < missing.size(); i++) {
+                statuses.set(missing.get(i), retried.get(i));
+            }
+        }
+        
+        for (int i = 0; i < statuses.size(); i++) {
+            String status = statuses.get(i);
+            boolean notHtml5 = DragAndDropSimulator.REJECTED.equals(status) || DragAndDropSimulator.CANCELLED.equals(status);
+            if (notHtml5 && DragAndDropSimulator.AUTO_STRATEGY.equals(strategy)) {
+                dragAndDropWithActions(sources.get(i), targets.get(i));
+            } else if (!DragAndDropSimulator.DROPPED.equals(status)) {
+                throw new WebExceptions(WebExceptions.ExceptionType.GENERAL_EXCEPTION,
+                        "Failed to perform drag and drop (" + status + "): " + sources.get(i) + " -> " + targets.get(i));
+            }
+        }
+    }
+    
+    private List<String> runDragAndDropScript(List<Object> sources, List<Object> targets) throws WebExceptions {
+        try {
+            return DragAndDropSimulator.dropAll(jsExecutor, sources, targets);
+        } catch (WebDriverException e) {
+            throw new WebExceptions(WebExceptions.ExceptionType.WEB_DRIVER_EXCEPTION,
+                    "Failed to perform drag and drop: " + e.getMessage(), e);
+        }
+    }
+    
+    private void dragAndDropWithActions(Object source, Object target) throws WebExceptions {
+        try {
+            actions.dragAndDrop(resolveHandle(source), resolveHandle(target)).perform();
+        } catch (WebDriverException e) {
+            throw new WebExceptions(WebExceptions.ExceptionType.GENERAL_EXCEPTION,
+                    "Failed to perform drag and drop: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Converts a WebElement or By into something the page scripts can resolve without a driver lookup
+     * @param handle A WebElement or By
+     * @return An in-page locator map when one is known, otherwise the element itself
+     * @throws WebExceptions if a locator the page cannot evaluate does not match a visible element
+     */
+    private Object toScriptHandle(Object handle) throws WebExceptions {
+        By locator = handle instanceof By ? (By) handle : getLocator((WebElement) handle);
+        Object target = locator == null ? null : toInPageTarget(locator);
+        return target != null ? target : resolveHandle(handle);
+    }
+    
+    private WebElement resolveHandle(Object handle) throws WebExceptions {
+        return handle instanceof By ? findElementByLocator((By) handle) : findElement((WebElement) handle);
+    }
 }
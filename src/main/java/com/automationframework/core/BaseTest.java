@@ -1,55 +1,141 @@
 package com.automationframework.core;
 
+import com.automationframework.utils.ConfigManager;
 import org.openqa.selenium.WebDriver;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Listeners;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
+import java.lang.reflect.Method;
+
 /**
  * Abstract base class for all test classes
  * Provides common test setup and teardown functionality
  */
+@Listeners(SuiteReportListener.class)
 public abstract class BaseTest {
     
-    protected WebDriver driver;
+    private final ThreadLocal<Boolean> applicationDeferred = ThreadLocal.withInitial(() -> false);
+    
+    /**
+     * Pre-warms the driver pool before each <test> so its first methods borrow a hot driver
+     * Runs per <test> because the browser parameter is defined there, not on the suite
+     * @param browser The browser type of the <test>
+     */
+    @BeforeTest(alwaysRun = true)
+    @Parameters({"browser"})
+    public void warmUpDriverPool(@Optional("chrome") String browser) {
+        try {
+            DriverPool.prewarm(browser, ConfigManager.getDriverPoolPrewarmCount());
+        } catch (Exception e) {
+            System.err.println("Failed to pre-warm driver pool: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Quits all pooled drivers and stops the shared driver services once the suite has finished
+     * SuiteReportListener reports the statistics afterwards
+     */
+    @AfterSuite(alwaysRun = true)
+    public void shutDownDriverPool() {
+        DriverManager.releaseAllDrivers();
+        DriverPool.shutdown();
+        BrowserContextManager.shutdown();
+        DriverServiceManager.stopAll();
+        ProcessTracker.reapAll();
+    }
+    
+    /**
+     * Kills browser processes left behind by the sessions this class quit
+     */
+    @AfterClass(alwaysRun = true)
+    public void reapLeakedProcesses() {
+        ProcessTracker.reap();
+    }
     
     /**
      * Setup method that runs before each test method
-     * Creates WebDriver instance and navigates to the application
+     * Registers a WebDriver for the current thread and navigates to the application. With lazy
+     * drivers both happen on the first command, so tests that never touch the browser skip them
      * @param browser The browser type to use for testing
+     * @param method The test method, to which leaked browser processes are attributed
      */
     @BeforeMethod
     @Parameters({"browser"})
-    public void setUp(@Optional("chrome")String browser) {
+    public void setUp(@Optional("chrome")String browser, Method method) {
+        ProcessTracker.setCurrentTest(method.getDeclaringClass().getSimpleName() + "." + method.getName());
         try {
-            // Create WebDriver instance using factory
-            driver = WebDriverFactory.createDriver(browser);
-            
-            // Navigate to the application
-            navigateToApplication();
+            // Reclaim sessions left behind by worker threads that have ended
+            DriverManager.releaseDriversOfDeadThreads();
             
-            // Wait for page to load
-            driver.manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(30));
+            if (LazyDriver.isEnabled()) {
+                DriverManager.setDriver(LazyDriver.create(browser, driver -> openApplication()));
+                return;
+            }
             
+            // Borrow a WebDriver instance from the pool for this thread
+            DriverManager.setDriver(DriverPool.acquire(browser));
+            ProcessTracker.claim(getDriver());
+            openApplication();
+        
         } catch (Exception e) {
             System.err.println("Failed to setup test: " + e.getMessage());
+            DriverPool.release(DriverManager.removeDriver());
             throw new RuntimeException("Test setup failed", e);
         }
     }
     
     /**
      * Teardown method that runs after each test method
-     * Closes the WebDriver and releases resources
+     * Returns the current thread's WebDriver to the pool, releases resources and kills
+     * processes of sessions quit earlier that are still running
      */
-    @AfterMethod
+    @AfterMethod(alwaysRun = true)
     public void tearDown() {
         try {
-            if (driver != null) {
-                WebDriverFactory.quitDriver(driver);
-            }
+            DriverPool.release(DriverManager.removeDriver());
+            ProcessTracker.reap();
         } catch (Exception e) {
             System.err.println("Failed to teardown test: " + e.getMessage());
+        } finally {
+            applicationDeferred.remove();
+            ProcessTracker.setCurrentTest(null);
+        }
+    }
+    
+    /**
+     * Navigates to the application and sets the page load timeout
+     * The navigation is deferred when a cached session can be restored, since restoring
+     * opens the dashboard directly
+     */
+    private void openApplication() {
+        // Wait for page to load
+        getDriver().manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(30));
+        
+        if (SessionStateCache.hasRestorableSession()) {
+            applicationDeferred.set(true);
+            return;
+        }
+        
+        // Navigate to the application
+        navigateToApplication();
+    }
+    
+    /**
+     * Navigates to the application if setUp deferred it for a cached session that was not used
+     * Call before interacting with the login page
+     */
+    protected void ensureApplicationOpen() {
+        if (applicationDeferred.get()) {
+            applicationDeferred.set(false);
+            if (!SessionStateCache.isLoginRedirect(getDriver())) {
+                navigateToApplication();
+            }
         }
     }
     
@@ -60,11 +146,32 @@ public abstract class BaseTest {
     protected abstract void navigateToApplication();
     
     /**
-     * Gets the current WebDriver instance
+     * Gets the WebDriver instance of the current thread
      * @return WebDriver instance
      */
     protected WebDriver getDriver() {
-        return driver;
+        return DriverManager.getDriver();
+    }
+    
+    /**
+     * Opens the dashboard using the worker's cached authenticated session
+     * @return true if the session was restored, false if the test must log in through the UI,
+     *         in which case the application has been opened
+     */
+    protected boolean restoreCachedSession() {
+        if (SessionStateCache.restore(getDriver())) {
+            applicationDeferred.set(false);
+            return true;
+        }
+        ensureApplicationOpen();
+        return false;
+    }
+    
+    /**
+     * Caches the authenticated session of the current driver for later tests on this worker
+     */
+    protected void cacheCurrentSession() {
+        SessionStateCache.capture(getDriver());
     }
     
     /**
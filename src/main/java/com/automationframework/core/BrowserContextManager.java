@@ -0,0 +1,251 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.browsingcontext.ReadinessState;
+import org.openqa.selenium.bidi.module.Browser;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out isolated browser contexts inside a few long-lived browser processes
+ * Each context is a WebDriver BiDi user context with its own cookies and storage,
+ * exposed to tests as a regular WebDriver handle bound to that context
+ */
+public class BrowserContextManager {
+    
+    private static final Map<String, List<SharedBrowser>> browsers = new ConcurrentHashMap<>();
+    
+    static {
+        DriverShutdown.register();
+    }
+    
+    private BrowserContextManager() {
+    }
+    
+    /**
+     * Checks if tests should share browser processes through isolated contexts
+     * @return true if browser contexts are enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isBrowserContextsEnabled();
+    }
+    
+    /**
+     * Opens a new isolated user context and returns a driver handle bound to it
+     * Reuses a running browser with free capacity, otherwise starts a new one
+     * @param browserType The type of browser hosting the context
+     * @return WebDriver handle whose commands run inside the new context
+     */
+    public static synchronized WebDriver openContext(String browserType) {
+        String key = WebDriverFactory.getDriverKey(browserType);
+        List<SharedBrowser> running = browsers.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+        
+        SharedBrowser host = null;
+        for (SharedBrowser browser : running) {
+            if (browser.isAlive() && browser.contextCount() < ConfigManager.getBrowserContextsMaxPerBrowser()) {
+                host = browser;
+                break;
+            }
+        }
+        if (host == null) {
+            host = new SharedBrowser(WebDriverFactory.createBiDiDriver(browserType));
+            running.add(host);
+        }
+        return host.openContext();
+    }
+    
+    /**
+     * Closes every context and quits every shared browser
+     */
+    public static synchronized void shutdown() {
+        for (List<SharedBrowser> running : browsers.values()) {
+            for (SharedBrowser browser : running) {
+                browser.quit();
+            }
+            running.clear();
+        }
+    }
+    
+    /**
+     * Gets the number of open contexts across all shared browsers
+     * @return Number of open contexts
+     */
+    public static int getOpenContextCount() {
+        int count = 0;
+        for (List<SharedBrowser> running : browsers.values()) {
+            for (SharedBrowser browser : running) {
+                count += browser.contextCount();
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * A browser process shared by several user contexts
+     * Classic WebDriver commands act on the session's current window, so the window switch
+     * and the command are serialized across contexts. Navigation is addressed to the
+     * context's tab over BiDi and runs concurrently. The initial tab is kept open so the
+     * session always has a window to fall back to when a context closes
+     */
+    private static final class SharedBrowser {
+        
+        private final WebDriver driver;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<String> userContexts = new CopyOnWriteArrayList<>();
+        private final String initialWindow;
+        private String currentWindow;
+        
+        SharedBrowser(WebDriver driver) {
+            this.driver = driver;
+            this.initialWindow = driver.getWindowHandle();
+            this.currentWindow = initialWindow;
+        }
+        
+        WebDriver openContext() {
+            lock.lock();
+            try {
+                String userContext = new Browser(driver).createUserContext();
+                BrowsingContext tab = new BrowsingContext(driver,
+                        new CreateContextParameters(WindowType.TAB).userContext(userContext));
+                userContexts.add(userContext);
+                return new ContextBoundDecorator(this, userContext, tab.getId()).decorate(driver);
+            } finally {
+                lock.unlock();
+            }
+        }
+        
+        void closeContext(String userContext) {
+            lock.lock();
+            try {
+                if (userContexts.remove(userContext)) {
+                    new Browser(driver).removeUserContext(userContext);
+                    // The context's tabs are gone, so move the session to a window that survives
+                    driver.switchTo().window(initialWindow);
+                    currentWindow = initialWindow;
+                }
+            } catch (Exception e) {
+                System.err.println("Failed to close browser context " + userContext + ": " + e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+        }
+        
+        void focus(String window) {
+            if (window != null && !window.equals(currentWindow)) {
+                driver.switchTo().window(window);
+                currentWindow = window;
+            }
+        }
+        
+        int contextCount() {
+            return userContexts.size();
+        }
+        
+        boolean isAlive() {
+            lock.lock();
+            try {
+                return DriverPool.isHealthy(driver);
+            } finally {
+                lock.unlock();
+            }
+        }
+        
+        /**
+         * Opens a tab or window inside a user context and makes it the session's current window
+         * Must be called with the lock held
+         */
+        String newWindow(String userContext, WindowType type) {
+            BrowsingContext window = new BrowsingContext(driver,
+                    new CreateContextParameters(type == null ? WindowType.TAB : type).userContext(userContext));
+            focus(window.getId());
+            return window.getId();
+        }
+        
+        void navigate(String window, String url) {
+            new BrowsingContext(driver, window).navigate(url, ReadinessState.COMPLETE);
+        }
+        
+        void quit() {
+            for (String userContext : new ArrayList<>(userContexts)) {
+                closeContext(userContext);
+            }
+            WebDriverFactory.quitDriver(driver);
+        }
+    }
+    
+    /**
+     * Binds every command of a driver handle to one user context
+     * quit() closes the context instead of the shared browser, switchTo().newWindow() opens the
+     * new tab inside the context, and get()/navigate().to() navigate the context's tab without
+     * taking the shared browser's lock
+     */
+    private static final class ContextBoundDecorator extends WebDriverDecorator<WebDriver> {
+        
+        private final SharedBrowser browser;
+        private final String userContext;
+        private volatile String activeWindow;
+        
+        ContextBoundDecorator(SharedBrowser browser, String userContext, String window) {
+            this.browser = browser;
+            this.userContext = userContext;
+            this.activeWindow = window;
+        }
+        
+        @Override
+        public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return super.call(target, method, args);
+            }
+            if (target.getOriginal() instanceof WebDriver && "quit".equals(method.getName())) {
+                browser.closeContext(userContext);
+                return null;
+            }
+            String url = getNavigationUrl(target, method, args);
+            if (url != null) {
+                browser.navigate(activeWindow, url);
+                return null;
+            }
+            
+            browser.lock.lock();
+            try {
+                if (target.getOriginal() instanceof WebDriver.TargetLocator && "newWindow".equals(method.getName())) {
+                    // A classic new window would open in the default user context and share its storage
+                    activeWindow = browser.newWindow(userContext, (WindowType) args[0]);
+                    return getDecoratedDriver().get();
+                }
+                browser.focus(activeWindow);
+                Object result = super.call(target, method, args);
+                if (target.getOriginal() instanceof WebDriver.TargetLocator && "window".equals(method.getName())) {
+                    activeWindow = (String) args[0];
+                    browser.currentWindow = activeWindow;
+                }
+                return result;
+            } finally {
+                browser.lock.unlock();
+            }
+        }
+        
+        private static String getNavigationUrl(Decorated<?> target, Method method, Object[] args) {
+            Object original = target.getOriginal();
+            boolean navigation = (original instanceof WebDriver && "get".equals(method.getName()))
+                    || (original instanceof WebDriver.Navigation && "to".equals(method.getName()));
+            if (!navigation || args == null || args.length != 1) {
+                return null;
+            }
+            return args[0] instanceof URL ? args[0].toString() : (String) args[0];
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.automationframework.core;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Element locator that keeps the resolved element of one page factory field
+ * The reference is reused until the driver's navigation epoch changes or it is invalidated
+ * after a stale element, so repeated accesses cost no findElement round trip. Lookups that
+ * reach the driver go through LocatorRewriter and are timed by LocatorProfiler
+ */
+public class CachingElementLocator implements ElementLocator {
+    
+    private final WebDriver driver;
+    private final By by;
+    private final String name;
+    private WebElement cachedElement;
+    private long cachedElementEpoch;
+    private List<WebElement> cachedElements;
+    private long cachedElementsEpoch;
+    
+    /**
+     * Creates a locator for an annotated page factory field
+     * @param driver The WebDriver instance to search with
+     * @param field The field annotated with @FindBy, @FindBys or @FindAll
+     */
+    public CachingElementLocator(WebDriver driver, Field field) {
+        this(driver, new Annotations(field).buildBy(), field.getDeclaringClass().getSimpleName() + "." + field.getName());
+    }
+    
+    /**
+     * Creates a locator for a known locator
+     * @param driver The WebDriver instance to search with
+     * @param by The locator of the element
+     * @param name The page element as Page.field, used for profiling and rewriting
+     */
+    public CachingElementLocator(WebDriver driver, By by, String name) {
+        this.driver = driver;
+        this.by = by;
+        this.name = name;
+    }
+    
+    @Override
+    public WebElement findElement() {
+        if (!ElementCache.isEnabled()) {
+            return resolveElement();
+        }
+        long epoch = ElementCache.getEpoch(driver);
+        if (cachedElement != null && cachedElementEpoch == epoch) {
+            ElementCache.recordHit();
+            return cachedElement;
+        }
+        
+        ElementCache.recordMiss();
+        cachedElement = resolveElement();
+        cachedElementEpoch = epoch;
+        return cachedElement;
+    }
+    
+    @Override
+    public List<WebElement> findElements() {
+        if (!ElementCache.isEnabled()) {
+            return resolveElements();
+        }
+        long epoch = ElementCache.getEpoch(driver);
+        if (cachedElements != null && cachedElementsEpoch == epoch) {
+            ElementCache.recordHit();
+            return cachedElements;
+        }
+        
+        ElementCache.recordMiss();
+        List<WebElement> elements = resolveElements();
+        // An empty result is not cached so elements rendered later are still found
+        cachedElements = elements.isEmpty() ? null : elements;
+        cachedElementsEpoch = epoch;
+        return elements;
+    }
+    
+    private WebElement resolveElement() {
+        By target = LocatorRewriter.rewrite(name, by);
+        if (target != by) {
+            try {
+                return locate(target, driver::findElement);
+            } catch (NoSuchElementException e) {
+                // Only a match for the declared locator proves the mapping wrong
+                WebElement element = locate(by, driver::findElement);
+                LocatorRewriter.reject(name, target);
+                return element;
+            }
+        }
+        WebElement element = locate(by, driver::findElement);
+        LocatorProfiler.suggestRewrite(name, by, element);
+        return element;
+    }
+    
+    private List<WebElement> resolveElements() {
+        By target = LocatorRewriter.rewrite(name, by);
+        List<WebElement> elements = locate(target, driver::findElements);
+        if (target != by && elements.isEmpty()) {
+            elements = locate(by, driver::findElements);
+            if (!elements.isEmpty()) {
+                LocatorRewriter.reject(name, target);
+            }
+        }
+        return elements;
+    }
+    
+    private <T> T locate(By target, Function<By, T> finder) {
+        long start = System.nanoTime();
+        boolean found = false;
+        try {
+            T result = finder.apply(target);
+            found = !(result instanceof List) || !((List<?>) result).isEmpty();
+            return result;
+        } finally {
+            LocatorProfiler.record(name, target, System.nanoTime() - start, found);
+        }
+    }
+    
+    /**
+     * Drops the cached references of this field
+     */
+    public void invalidate() {
+        cachedElement = null;
+        cachedElements = null;
+    }
+    
+    /**
+     * Gets the WebDriver this locator searches with
+     * @return The WebDriver instance
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
+    
+    /**
+     * Gets the locator of the field
+     * @return The By built from the field annotations
+     */
+    public By getBy() {
+        return by;
+    }
+    
+    /**
+     * Gets the page element this locator resolves
+     * @return The page element as Page.field
+     */
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " '" + name + "' " + by;
+    }
+}
@@ -0,0 +1,83 @@
+package com.automationframework.core;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Page factory decorator that backs WebElement fields with cached references
+ * A command that hits a stale cached element outdates the driver's cache and is
+ * retried once on a freshly located element, so callers never see the cache
+ */
+public class CachingFieldDecorator extends DefaultFieldDecorator {
+    
+    /**
+     * Creates a decorator whose fields are located through the given driver
+     * @param driver The WebDriver instance of the page
+     */
+    public CachingFieldDecorator(WebDriver driver) {
+        super(field -> new CachingElementLocator(driver, field));
+    }
+    
+    @Override
+    protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        return (WebElement) Proxy.newProxyInstance(loader,
+                new Class<?>[] {WebElement.class, WrapsElement.class, Locatable.class},
+                new StaleRetryHandler(locator));
+    }
+    
+    /**
+     * Resolves the element through the caching locator for every call, retrying once when it is stale
+     */
+    private static final class StaleRetryHandler implements InvocationHandler {
+        
+        private final ElementLocator locator;
+        
+        StaleRetryHandler(ElementLocator locator) {
+            this.locator = locator;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            WebElement element;
+            try {
+                element = locator.findElement();
+            } catch (RuntimeException e) {
+                if ("toString".equals(method.getName())) {
+                    return "Proxy element for: " + locator;
+                }
+                throw e;
+            }
+            if ("getWrappedElement".equals(method.getName())) {
+                return element;
+            }
+            
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException) || !(locator instanceof CachingElementLocator)) {
+                    throw e.getCause();
+                }
+            }
+            
+            // A re-render or navigation replaced the node; everything cached for this driver may be outdated
+            CachingElementLocator cachingLocator = (CachingElementLocator) locator;
+            ElementCache.invalidate(cachingLocator.getDriver());
+            ElementCache.recordStaleRetry();
+            try {
+                return method.invoke(locator.findElement(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simulates HTML5 drag and drop by dispatching the drag events in the page
+ * Each pair gets its own DataTransfer shared by dragstart, dragover and drop, exactly like a
+ * native drag, and any number of pairs run in one async script. A drop target that does not
+ * cancel dragover is not an HTML5 drop zone; such pairs are reported as rejected so callers
+ * can fall back to pointer-driven Actions
+ */
+public class DragAndDropSimulator {
+    
+    public static final String SCRIPT_STRATEGY = "script";
+    public static final String ACTIONS_STRATEGY = "actions";
+    public static final String AUTO_STRATEGY = "auto";
+    
+    public static final String DROPPED = "ok";
+    public static final String MISSING = "missing";
+    public static final String REJECTED = "rejected";
+    public static final String CANCELLED = "cancelled";
+    
+    private static final String DRAG_AND_DROP_SCRIPT =
+            "var sources = arguments[0], targets = arguments[1], done = arguments[arguments.length - 1];"
+            + ElementWaiter.LOCATE_FUNCTION
+            + "function resolve(t) {"
+            + "  try { return !t ? null : t.nodeType === 1 ? t : locateTarget(t); } catch (e) { return null; }"
+            + "}"
+            + "function transfer() {"
+            + "  try { return new DataTransfer(); } catch (e) {"
+            + "    var data = {};"
+            + "    return { dropEffect: 'move', effectAllowed: 'all', files: [], items: [], types: [],"
+            + "      setData: function (k, v) { data[k] = v; if (this.types.indexOf(k) < 0) { this.types.push(k); } },"
+            + "      getData: function (k) { return data[k] || ''; },"
+            + "      clearData: function (k) { if (k) { delete data[k]; } else { data = {}; } },"
+            + "      setDragImage: function () {} };"
+            + "  }"
+            + "}"
+            + "function center(el) {"
+            + "  var r = el.getBoundingClientRect();"
+            + "  return { x: r.left + r.width / 2, y: r.top + r.height / 2 };"
+            + "}"
+            + "function fire(el, type, dt, point) {"
+            + "  var ev;"
+            + "  try {"
+            + "    ev = new DragEvent(type, { bubbles: true, cancelable: true, composed: true,"
+            + "      clientX: point.x, clientY: point.y, dataTransfer: dt });"
+            + "  } catch (e) {"
+            + "    ev = document.createEvent('Event'); ev.initEvent(type, true, true);"
+            + "    Object.defineProperty(ev, 'clientX', { value: point.x });"
+            + "    Object.defineProperty(ev, 'clientY', { value: point.y });"
+            + "  }"
+            + "  if (ev.dataTransfer !== dt) { Object.defineProperty(ev, 'dataTransfer', { value: dt }); }"
+            + "  el.dispatchEvent(ev);"
+            + "  return ev;"
+            + "}"
+            + "function drop(source, target) {"
+            + "  if (!source || !target) { return 'missing'; }"
+            + "  target.scrollIntoView({ block: 'center' });"
+            + "  var dt = transfer(), from = center(source), to = center(target);"
+            // Frameworks usually listen on a child of the drop zone, so hit the element a pointer would hit
+            + "  var hit = document.elementFromPoint(to.x, to.y);"
+            + "  var zone = hit && target.contains(hit) ? hit : target;"
+            + "  if (fire(source, 'dragstart', dt, from).defaultPrevented) { return 'cancelled'; }"
+            + "  fire(source, 'drag', dt, from);"
+            + "  fire(zone, 'dragenter', dt, to);"
+            + "  if (!fire(zone, 'dragover', dt, to).defaultPrevented) {"
+            + "    fire(zone, 'dragleave', dt, to); fire(source, 'dragend', dt, from);"
+            + "    return 'rejected';"
+            + "  }"
+            + "  fire(zone, 'drop', dt, to);"
+            + "  fire(source, 'dragend', dt, to);"
+            + "  return 'ok';"
+            + "}"
+            + "var results = [], i = 0;"
+            // Yield between pairs so the application can render the previous drop
+            + "(function next() {"
+            + "  if (i >= sources.length) { done(results); return; }"
+            + "  try { results.push(drop(resolve(sources[i]), resolve(targets[i]))); } catch (e) { results.push('error: ' + e.message); }"
+            + "  i++;"
+            + "  setTimeout(next, 0);"
+            + "})();";
+    
+    private DragAndDropSimulator() {
+    }
+    
+    /**
+     * Gets the configured drag and drop strategy
+     * @return script, actions or auto (script with an Actions fallback for non-HTML5 targets)
+     */
+    public static String getStrategy() {
+        return ConfigManager.getDragAndDropStrategy().toLowerCase();
+    }
+    
+    /**
+     * Drops every source on its target in a single script execution
+     * @param executor The JavaScript executor of the driver
+     * @param sources Elements or in-page locator maps to drag
+     * @param targets Elements or in-page locator maps to drop on, same size as sources
+     * @return Status per pair: ok, missing, rejected, cancelled or an error message
+     * @throws WebDriverException if the script cannot run
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> dropAll(JavascriptExecutor executor, List<Object> sources, List<Object> targets) {
+        List<String> results = new ArrayList<>((List<String>) executor.executeAsyncScript(DRAG_AND_DROP_SCRIPT, sources, targets));
+        LocatorProfiler.collectInPage(executor);
+        return results;
+    }
+}
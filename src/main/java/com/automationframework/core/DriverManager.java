@@ -0,0 +1,96 @@
+package com.automationframework.core;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-scoped registry of WebDriver instances
+ * Each test thread sees only its own driver, so methods and classes can run in parallel
+ */
+public class DriverManager {
+    
+    private static final ThreadLocal<WebDriver> threadDriver = new ThreadLocal<>();
+    private static final Map<Thread, WebDriver> activeDrivers = new ConcurrentHashMap<>();
+    
+    private DriverManager() {
+    }
+    
+    /**
+     * Registers the driver for the current thread
+     * @param driver The WebDriver instance owned by the current thread
+     */
+    public static void setDriver(WebDriver driver) {
+        if (driver == null) {
+            removeDriver();
+            return;
+        }
+        threadDriver.set(driver);
+        activeDrivers.put(Thread.currentThread(), driver);
+    }
+    
+    /**
+     * Gets the driver registered for the current thread
+     * @return WebDriver instance, or null if none is registered
+     */
+    public static WebDriver getDriver() {
+        return threadDriver.get();
+    }
+    
+    /**
+     * Checks if the current thread has a registered driver
+     * @return true if a driver is registered, false otherwise
+     */
+    public static boolean hasDriver() {
+        return threadDriver.get() != null;
+    }
+    
+    /**
+     * Unregisters the driver of the current thread
+     * @return The WebDriver instance that was registered, or null if none was
+     */
+    public static WebDriver removeDriver() {
+        WebDriver driver = threadDriver.get();
+        threadDriver.remove();
+        activeDrivers.remove(Thread.currentThread());
+        return driver;
+    }
+    
+    /**
+     * Releases drivers still registered by threads that have already terminated
+     * TestNG worker threads can end without running teardown, which would otherwise leak their sessions
+     * @return Number of drivers released
+     */
+    public static int releaseDriversOfDeadThreads() {
+        int released = 0;
+        for (Map.Entry<Thread, WebDriver> entry : activeDrivers.entrySet()) {
+            if (!entry.getKey().isAlive() && activeDrivers.remove(entry.getKey(), entry.getValue())) {
+                DriverPool.release(entry.getValue());
+                released++;
+            }
+        }
+        return released;
+    }
+    
+    /**
+     * Releases every registered driver regardless of the owning thread
+     * Intended for suite shutdown
+     */
+    public static void releaseAllDrivers() {
+        for (Map.Entry<Thread, WebDriver> entry : activeDrivers.entrySet()) {
+            if (activeDrivers.remove(entry.getKey(), entry.getValue())) {
+                DriverPool.release(entry.getValue());
+            }
+        }
+        threadDriver.remove();
+    }
+    
+    /**
+     * Gets the number of threads that currently hold a driver
+     * @return Number of active drivers
+     */
+    public static int getActiveDriverCount() {
+        return activeDrivers.size();
+    }
+}
@@ -0,0 +1,262 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of reusable WebDriver sessions keyed by browser type and options
+ * Tests borrow a warm session and hand it back reset to a clean slate
+ * instead of paying browser startup for every test method
+ */
+public class DriverPool {
+    
+    private static final String BLANK_PAGE = "about:blank";
+    private static final long IDLE_POLL_MILLIS = 100;
+    
+    private static final Map<String, BlockingDeque<WebDriver>> idleDrivers = new ConcurrentHashMap<>();
+    private static final Map<String, Semaphore> sessionSlots = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, String> leasedDrivers = new ConcurrentHashMap<>();
+    
+    static {
+        DriverShutdown.register();
+    }
+    
+    private DriverPool() {
+    }
+    
+    /**
+     * Checks if driver pooling is enabled
+     * @return true if sessions are pooled, false if every test gets a fresh browser
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isDriverPoolEnabled();
+    }
+    
+    /**
+     * Borrows a healthy driver for the given browser type
+     * Reuses an idle session when available, otherwise creates one while the
+     * pool is below its maximum size, otherwise waits for a session to be released.
+     * When browser contexts are enabled a fresh isolated context is opened instead
+     * @param browserType The type of browser to borrow
+     * @return WebDriver instance
+     */
+    public static WebDriver acquire(String browserType) {
+        // Context handles are cheap to open and are closed rather than reset on release
+        if (BrowserContextManager.isEnabled()) {
+            return BrowserContextManager.openContext(browserType);
+        }
+        if (!isEnabled()) {
+            return WebDriverFactory.createDriver(browserType);
+        }
+        
+        String key = WebDriverFactory.getDriverKey(browserType);
+        BlockingDeque<WebDriver> idle = idleFor(key);
+        Semaphore slots = slotsFor(key);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ConfigManager.getDriverPoolAcquireTimeout());
+        
+        try {
+            while (System.nanoTime() < deadline) {
+                WebDriver driver = idle.pollFirst();
+                if (driver == null && slots.tryAcquire()) {
+                    driver = createPooledDriver(browserType, slots);
+                } else if (driver == null) {
+                    driver = idle.pollFirst(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                
+                if (driver == null) {
+                    continue;
+                }
+                if (isHealthy(driver)) {
+                    leasedDrivers.put(driver, key);
+                    return driver;
+                }
+                discard(key, driver);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a pooled driver: " + key, e);
+        }
+        
+        throw new RuntimeException("Timed out waiting for a pooled driver: " + key);
+    }
+    
+    /**
+     * Returns a borrowed driver to the pool after resetting it to a clean slate
+     * Drivers that fail the reset are discarded; drivers not owned by the pool are quit.
+     * A lazy driver returns its session, or nothing if it never started one
+     * @param driver The WebDriver instance to release
+     */
+    public static void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (LazyDriver.isLazy(driver)) {
+            LazyDriver.release(driver);
+            return;
+        }
+        
+        String key = leasedDrivers.remove(driver);
+        if (key == null) {
+            DriverReaper.quit(driver);
+            return;
+        }
+        
+        if (resetDriver(driver)) {
+            idleFor(key).offerFirst(driver);
+        } else {
+            discard(key, driver);
+        }
+    }
+    
+    /**
+     * Starts sessions ahead of time so the first tests borrow a hot driver
+     * Only tops up the idle sessions, so pre-warming the same browser again starts nothing new
+     * @param browserType The type of browser to pre-warm
+     * @param count Number of idle sessions to have ready, capped by the pool maximum size
+     */
+    public static void prewarm(String browserType, int count) {
+        if (!isEnabled() || BrowserContextManager.isEnabled() || count <= 0) {
+            return;
+        }
+        
+        String key = WebDriverFactory.getDriverKey(browserType);
+        int missing = count - idleFor(key).size();
+        if (missing <= 0) {
+            return;
+        }
+        Semaphore slots = slotsFor(key);
+        List<Future<WebDriver>> startups = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(missing);
+        
+        try {
+            for (int i = 0; i < missing && slots.tryAcquire(); i++) {
+                startups.add(executor.submit(() -> createPooledDriver(browserType, slots)));
+            }
+            for (Future<WebDriver> startup : startups) {
+                try {
+                    idleFor(key).offerLast(startup.get());
+                } catch (Exception e) {
+                    System.err.println("Failed to pre-warm " + key + " driver: " + e.getMessage());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    /**
+     * Quits every pooled session, idle or leased, empties the pool and waits for all quits to finish
+     */
+    public static void shutdown() {
+        for (Map.Entry<String, BlockingDeque<WebDriver>> entry : idleDrivers.entrySet()) {
+            WebDriver driver;
+            while ((driver = entry.getValue().pollFirst()) != null) {
+                discard(entry.getKey(), driver);
+            }
+        }
+        for (WebDriver driver : new ArrayList<>(leasedDrivers.keySet())) {
+            String key = leasedDrivers.remove(driver);
+            if (key != null) {
+                discard(key, driver);
+            }
+        }
+        DriverReaper.awaitQuits();
+    }
+    
+    /**
+     * Gets the number of idle sessions for the given browser type
+     * @param browserType The type of browser
+     * @return Number of idle sessions waiting to be borrowed
+     */
+    public static int getIdleCount(String browserType) {
+        return idleFor(WebDriverFactory.getDriverKey(browserType)).size();
+    }
+    
+    /**
+     * Resets a session to a clean slate: extra tabs closed, cookies and
+     * storage cleared, and the remaining tab parked on about:blank
+     * @param driver The WebDriver instance to reset
+     * @return true if the reset succeeded, false if the session should be discarded
+     */
+    static boolean resetDriver(WebDriver driver) {
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            String keep = handles.iterator().next();
+            for (String handle : handles) {
+                if (!handle.equals(keep)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(keep);
+            
+            // Storage is scoped to the current origin, so clear it before leaving the page
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+            if (driver instanceof HasCdp) {
+                ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+            }
+            
+            driver.get(BLANK_PAGE);
+            return true;
+        } catch (Exception e) {
+            System.err.println("Failed to reset pooled driver: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Checks if a session is still responsive
+     * @param driver The WebDriver instance to check
+     * @return true if the session answers commands, false otherwise
+     */
+    static boolean isHealthy(WebDriver driver) {
+        try {
+            return driver.getWindowHandle() != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+    
+    private static WebDriver createPooledDriver(String browserType, Semaphore slots) {
+        try {
+            return WebDriverFactory.createDriver(browserType);
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+    }
+    
+    /**
+     * Quits a session in the background; its slot is freed only once the browser is gone,
+     * so the pool never runs more browsers than its maximum size
+     */
+    private static void discard(String key, WebDriver driver) {
+        DriverReaper.quit(driver, () -> slotsFor(key).release());
+    }
+    
+    private static BlockingDeque<WebDriver> idleFor(String key) {
+        return idleDrivers.computeIfAbsent(key, k -> new LinkedBlockingDeque<>());
+    }
+    
+    private static Semaphore slotsFor(String key) {
+        return sessionSlots.computeIfAbsent(key, k -> new Semaphore(ConfigManager.getDriverPoolMaxSize()));
+    }
+}
@@ -0,0 +1,178 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Quits WebDriver sessions in the background so teardown does not wait for the browser to exit
+ * A fixed number of reaper threads take quits from a bounded queue; when the queue is full the
+ * caller quits the session itself, which keeps a slow host from piling up dying browsers. A quit
+ * that exceeds driver.quit.timeout kills the browser process tree. The completion callback runs
+ * only after the browser is gone, so pool slots stay taken until then
+ */
+public class DriverReaper {
+    
+    private static final ExecutorService reapers = createReapers();
+    
+    // Runs the quit commands themselves, so a hung quit can be abandoned once its browser is killed
+    private static final ExecutorService quitters = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "driver-quit");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private static final Phaser pending = new Phaser(1);
+    
+    private static final AtomicLong quits = new AtomicLong();
+    private static final AtomicLong totalQuitNanos = new AtomicLong();
+    private static final AtomicLong maxQuitNanos = new AtomicLong();
+    private static final AtomicLong timeouts = new AtomicLong();
+    private static final AtomicLong killedProcesses = new AtomicLong();
+    
+    private DriverReaper() {
+    }
+    
+    /**
+     * Checks if sessions are quit in the background
+     * @return true if the reaper is enabled, false if quits run on the calling thread
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isDriverReaperEnabled();
+    }
+    
+    /**
+     * Quits a session in the background
+     * @param driver The WebDriver instance to quit
+     */
+    public static void quit(WebDriver driver) {
+        quit(driver, null);
+    }
+    
+    /**
+     * Quits a session in the background and runs a callback once the browser is gone
+     * @param driver The WebDriver instance to quit
+     * @param onQuit Runs after the quit finished, failed or timed out and the browser was killed, may be null
+     */
+    public static void quit(WebDriver driver, Runnable onQuit) {
+        if (driver == null) {
+            if (onQuit != null) {
+                onQuit.run();
+            }
+            return;
+        }
+        if (!isEnabled()) {
+            quitNow(driver, onQuit);
+            return;
+        }
+        
+        pending.register();
+        reapers.execute(() -> {
+            try {
+                quitNow(driver, onQuit);
+            } finally {
+                pending.arriveAndDeregister();
+            }
+        });
+    }
+    
+    /**
+     * Waits until all queued quits have finished, e.g. before the driver services are stopped
+     * Each quit is bounded by driver.quit.timeout, so the wait is bounded as well
+     */
+    public static synchronized void awaitQuits() {
+        try {
+            pending.awaitAdvanceInterruptibly(pending.arrive());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Formats the number and duration of quits and the browsers that had to be killed
+     * @return The quit statistics
+     */
+    public static String getSummary() {
+        long count = quits.get();
+        return String.format("Driver quits: %d, %.0f ms average, %.0f ms max, %d timed out, %d processes killed",
+                count, count == 0 ? 0.0 : totalQuitNanos.get() / 1e6 / count, maxQuitNanos.get() / 1e6,
+                timeouts.get(), killedProcesses.get());
+    }
+    
+    private static void quitNow(WebDriver driver, Runnable onQuit) {
+        long start = System.nanoTime();
+        Capabilities capabilities = getCapabilities(driver);
+        CompletableFuture<Void> quit = CompletableFuture.runAsync(driver::quit, quitters);
+        try {
+            quit.get(ConfigManager.getDriverQuitTimeout(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            timeouts.incrementAndGet();
+            int killed = killBrowserProcesses(capabilities);
+            System.err.println("Driver quit timed out after " + ConfigManager.getDriverQuitTimeout() + " s, killed "
+                    + killed + " browser processes");
+        } catch (ExecutionException e) {
+            // The session may be gone while its browser still runs
+            int killed = killBrowserProcesses(capabilities);
+            System.err.println("Error while quitting driver: " + e.getCause().getMessage()
+                    + (killed > 0 ? ", killed " + killed + " browser processes" : ""));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            long nanos = System.nanoTime() - start;
+            quits.incrementAndGet();
+            totalQuitNanos.addAndGet(nanos);
+            maxQuitNanos.accumulateAndGet(nanos, Math::max);
+            ProcessTracker.closed(driver);
+            if (onQuit != null) {
+                onQuit.run();
+            }
+        }
+    }
+    
+    /**
+     * Kills the browser processes of a session together with their descendants
+     * @param capabilities The capabilities the session was created with
+     * @return Number of processes killed
+     */
+    private static int killBrowserProcesses(Capabilities capabilities) {
+        int killed = ProcessTracker.killTrees(ProcessTracker.findBrowserProcesses(capabilities)).size();
+        killedProcesses.addAndGet(killed);
+        return killed;
+    }
+    
+    private static Capabilities getCapabilities(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities)) {
+            return null;
+        }
+        try {
+            // Capabilities are kept by the client, so reading them sends no command to a hung session
+            return ((HasCapabilities) driver).getCapabilities();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+    
+    private static ExecutorService createReapers() {
+        int threads = Math.max(1, ConfigManager.getDriverReaperThreads());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, ConfigManager.getDriverReaperQueueSize())), runnable -> {
+                    Thread thread = new Thread(runnable, "driver-reaper");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,153 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one driver service process (chromedriver, geckodriver, msedgedriver) per
+ * browser type for the whole JVM and opens every session against it
+ * Saves the driver binary startup and shutdown on each new session
+ */
+public class DriverServiceManager {
+    
+    private static final String CHROME = "chrome";
+    private static final String FIREFOX = "firefox";
+    private static final String EDGE = "edge";
+    
+    private static final Map<String, DriverService> services = new ConcurrentHashMap<>();
+    private static final Map<String, String> browserPaths = new ConcurrentHashMap<>();
+    
+    static {
+        DriverShutdown.register();
+    }
+    
+    private DriverServiceManager() {
+    }
+    
+    /**
+     * Checks if sessions should share one driver service per browser type
+     * @return true if driver services are shared, false otherwise
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isDriverServiceShared();
+    }
+    
+    /**
+     * Checks if the browser type can use a shared driver service
+     * @param browserType The type of browser
+     * @return true for Chrome, Firefox and Edge, false otherwise
+     */
+    public static boolean isSupported(String browserType) {
+        String type = browserType.toLowerCase();
+        return CHROME.equals(type) || FIREFOX.equals(type) || EDGE.equals(type);
+    }
+    
+    /**
+     * Opens a new session on the shared driver service of the browser type
+     * The session is augmented so browser specific interfaces such as CDP and BiDi stay available
+     * @param browserType The type of browser
+     * @param options The browser options for the new session
+     * @return WebDriver instance
+     */
+    public static WebDriver createSession(String browserType, Capabilities options) {
+        DriverService service = getService(browserType, options);
+        String browserPath = browserPaths.get(browserType.toLowerCase());
+        if (browserPath != null) {
+            if (options instanceof ChromiumOptions) {
+                ((ChromiumOptions<?>) options).setBinary(browserPath);
+            } else if (options instanceof FirefoxOptions) {
+                ((FirefoxOptions) options).setBinary(browserPath);
+            }
+        }
+        return RemoteWebDriver.builder()
+                .oneOf(options)
+                .address(service.getUrl())
+                .config(getClientConfig().baseUrl(service.getUrl()))
+                .augmentUsing(new Augmenter())
+                .build();
+    }
+    
+    /**
+     * Gets the HTTP client configuration used for driver commands
+     * @return Client configuration with the configured connect and read timeouts
+     */
+    public static ClientConfig getClientConfig() {
+        return ClientConfig.defaultConfig()
+                .connectionTimeout(Duration.ofSeconds(ConfigManager.getDriverHttpConnectTimeout()))
+                .readTimeout(Duration.ofSeconds(ConfigManager.getDriverHttpReadTimeout()));
+    }
+    
+    /**
+     * Gets the running driver service of the browser type, starting it on first use
+     * @param browserType The type of browser
+     * @param options The browser options, used to locate the driver and browser binaries
+     *                on first start
+     * @return The running driver service
+     */
+    public static synchronized DriverService getService(String browserType, Capabilities options) {
+        String type = browserType.toLowerCase();
+        DriverService service = services.get(type);
+        if (service != null && service.isRunning()) {
+            return service;
+        }
+        
+        service = createService(type);
+        DriverFinder finder = new DriverFinder(service, options);
+        service.setExecutable(finder.getDriverPath());
+        if (finder.hasBrowserPath()) {
+            browserPaths.put(type, finder.getBrowserPath());
+        }
+        
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start driver service for " + type, e);
+        }
+        services.put(type, service);
+        return service;
+    }
+    
+    /**
+     * Stops every shared driver service
+     * Sessions must be quit first; their browsers are left without a driver otherwise
+     */
+    public static synchronized void stopAll() {
+        for (Map.Entry<String, DriverService> entry : services.entrySet()) {
+            try {
+                entry.getValue().stop();
+            } catch (Exception e) {
+                System.err.println("Failed to stop " + entry.getKey() + " driver service: " + e.getMessage());
+            }
+        }
+        services.clear();
+    }
+    
+    private static DriverService createService(String browserType) {
+        switch (browserType) {
+            case CHROME:
+                return new ChromeDriverService.Builder().usingAnyFreePort().build();
+            case FIREFOX:
+                return new GeckoDriverService.Builder().usingAnyFreePort().build();
+            case EDGE:
+                return new EdgeDriverService.Builder().usingAnyFreePort().build();
+            default:
+                throw new IllegalArgumentException("Shared driver service not supported for: " + browserType);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.automationframework.core;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Single JVM shutdown hook for the long-lived browser resources
+ * Shutdown hooks run concurrently, so one hook quits pooled sessions, then shared browser
+ * contexts and only then stops the driver services the sessions still talk to
+ */
+final class DriverShutdown {
+    
+    private static final AtomicBoolean registered = new AtomicBoolean();
+    
+    private DriverShutdown() {
+    }
+    
+    /**
+     * Registers the shutdown hook on first call; later calls do nothing
+     */
+    static void register() {
+        if (registered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(DriverShutdown::run, "driver-shutdown"));
+        }
+    }
+    
+    private static void run() {
+        DriverPool.shutdown();
+        BrowserContextManager.shutdown();
+        DriverServiceManager.stopAll();
+    }
+}
@@ -0,0 +1,154 @@
+package com.automationframework.core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Selects an option in a native select or a custom listbox widget with a single async script
+ * Native selects pick the option by value or visible text. Custom widgets are opened with a
+ * full pointer sequence, filtered through their search input when the option is not rendered,
+ * and the option is clicked as soon as a MutationObserver sees it. The selection is verified
+ * in the same script from the widget's displayed value or the option's aria-selected state
+ */
+public class DropdownSelector {
+    
+    public static final String SELECTED = "ok";
+    public static final String MISSING = "missing";
+    public static final String NO_OPTION = "no-option";
+    public static final String UNVERIFIED = "unverified";
+    
+    // Shared with the batched form fill in BasePage so both pick the same option for a value
+    static final String MATCH_FUNCTION =
+            "function norm(s) { return (s || '').replace(/\\s+/g, ' ').trim(); }"
+            + "function matchesText(text, wanted) { return norm(text).toLowerCase() === norm(wanted).toLowerCase(); }";
+    
+    private static final String SELECT_SCRIPT =
+            "var target = arguments[0], wanted = arguments[1], timeout = arguments[2],"
+            + " done = arguments[arguments.length - 1];"
+            + ElementWaiter.LOCATE_FUNCTION
+            + ElementWaiter.VISIBLE_FUNCTION
+            + MATCH_FUNCTION
+            + "function same(s) { return matchesText(s, wanted); }"
+            + "function fire(el, type) { el.dispatchEvent(new Event(type, { bubbles: true })); }"
+            + "function press(el) {"
+            + "  ['pointerdown', 'mousedown', 'pointerup', 'mouseup'].forEach(function (type) {"
+            + "    el.dispatchEvent(new MouseEvent(type, { bubbles: true, cancelable: true, view: window }));"
+            + "  });"
+            + "  el.click();"
+            + "}"
+            + "var e = null;"
+            + "try { e = target.nodeType === 1 ? target : locateTarget(target); } catch (err) { e = null; }"
+            + "if (!visible(e)) { done({ status: 'missing' }); return; }"
+            + "if (e.tagName.toLowerCase() === 'select') {"
+            + "  for (var i = 0; i < e.options.length; i++) {"
+            + "    if (e.options[i].value === wanted || same(e.options[i].text)) {"
+            + "      e.selectedIndex = i; fire(e, 'input'); fire(e, 'change');"
+            + "      done({ status: 'ok', selected: norm(e.options[e.selectedIndex].text) }); return;"
+            + "    }"
+            + "  }"
+            + "  done({ status: 'no-option' }); return;"
+            + "}"
+            // Popups are often portalled to the body, so search the whole document unless the widget names its list
+            + "function findOption() {"
+            + "  var id = e.getAttribute('aria-controls') || e.getAttribute('aria-owns');"
+            + "  var scope = (id && document.getElementById(id)) || document;"
+            // ARIA options first so generic list items elsewhere on the page do not win
+            + "  var selectors = ['[role=\"option\"], [role=\"menuitem\"], [role=\"treeitem\"]', '.option, .dropdown-item, li'];"
+            + "  for (var s = 0; s < selectors.length; s++) {"
+            + "    var nodes = scope.querySelectorAll(selectors[s]);"
+            + "    for (var i = 0; i < nodes.length; i++) {"
+            + "      var n = nodes[i];"
+            + "      if (n !== e && (same(n.textContent) || n.getAttribute('data-value') === wanted) && visible(n)) { return n; }"
+            + "    }"
+            + "  }"
+            + "  return null;"
+            + "}"
+            + "function filterInput() {"
+            + "  var active = document.activeElement;"
+            + "  if (e.tagName.toLowerCase() === 'input') { return e; }"
+            + "  if (active && active !== document.body && /^(input|textarea)$/i.test(active.tagName)) { return active; }"
+            + "  return e.querySelector('input');"
+            + "}"
+            // The widget's own text without the text of a list rendered inside it, which names every option
+            + "function shownValue() {"
+            + "  if (e.tagName.toLowerCase() === 'input') { return e.value; }"
+            + "  var text = '', walker = document.createTreeWalker(e, NodeFilter.SHOW_TEXT);"
+            + "  while (walker.nextNode()) {"
+            + "    var list = walker.currentNode.parentElement.closest('[role=\"listbox\"], [role=\"option\"], [role=\"menu\"], ul, ol');"
+            + "    if (!list || list === e || !e.contains(list)) { text += ' ' + walker.currentNode.nodeValue; }"
+            + "  }"
+            + "  return text;"
+            + "}"
+            + "var verified = false;"
+            + "function verify(option) {"
+            + "  if (verified) { return; }"
+            + "  verified = true;"
+            + "  var shown = shownValue();"
+            + "  var ok = same(shown) || option.getAttribute('aria-selected') === 'true'"
+            + "    || (!!option.id && e.getAttribute('aria-activedescendant') === option.id);"
+            + "  done({ status: ok ? 'ok' : 'unverified', selected: norm(shown) });"
+            + "}"
+            + "var finished = false, filtered = false, observer, timer;"
+            + "function finish(result) { if (finished) { return; } finished = true; observer.disconnect(); clearTimeout(timer); result(); }"
+            + "function attempt() {"
+            + "  if (finished) { return; }"
+            + "  var option = findOption();"
+            + "  if (option) {"
+            + "    finish(function () { press(option); window.requestAnimationFrame(function () { verify(option); });"
+            + "      setTimeout(function () { verify(option); }, 100); });"
+            + "    return;"
+            + "  }"
+            // Virtualized lists only render matching options once the filter text is typed
+            + "  var input = filtered ? null : filterInput();"
+            + "  if (input) {"
+            + "    filtered = true;"
+            + "    var proto = input.tagName.toLowerCase() === 'input' ? HTMLInputElement.prototype : HTMLTextAreaElement.prototype;"
+            + "    Object.getOwnPropertyDescriptor(proto, 'value').set.call(input, wanted);"
+            + "    fire(input, 'input');"
+            + "  }"
+            + "}"
+            + "observer = new MutationObserver(attempt);"
+            + "observer.observe(document, { childList: true, subtree: true, attributes: true });"
+            + "timer = setTimeout(function () { finish(function () { done({ status: 'no-option' }); }); }, timeout);"
+            + "press(e);"
+            + "attempt();";
+    
+    private DropdownSelector() {
+    }
+    
+    /**
+     * Checks if an option is the one wanted, with the same rules the page scripts apply:
+     * the exact option value, or the visible text ignoring case and extra whitespace
+     * @param value The option value
+     * @param text The option's visible text
+     * @param wanted The option value or visible text to select
+     * @return true if the option matches, false otherwise
+     */
+    public static boolean matchesOption(String value, String text, String wanted) {
+        return wanted.equals(value) || normalize(text).equalsIgnoreCase(normalize(wanted));
+    }
+    
+    private static String normalize(String text) {
+        return text == null ? "" : text.replaceAll("\\s+", " ").trim();
+    }
+    
+    /**
+     * Selects an option and reports the outcome
+     * @param executor The JavaScript executor of the driver
+     * @param target The dropdown element, or an in-page locator map with using and value
+     * @param option The option value or visible text to select
+     * @param timeout The maximum time to wait for a custom widget to show the option
+     * @return One of ok, missing, no-option or unverified, and the displayed selection if any
+     * @throws WebDriverException if the script cannot run
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> select(JavascriptExecutor executor, Object target, String option, Duration timeout) {
+        Map<String, Object> result = (Map<String, Object>) executor.executeAsyncScript(SELECT_SCRIPT, target, option,
+                timeout.toMillis());
+        LocatorProfiler.collectInPage(executor);
+        return result;
+    }
+}
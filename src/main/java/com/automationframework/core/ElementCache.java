@@ -0,0 +1,108 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Navigation epochs and statistics for cached page factory elements
+ * Each driver has an epoch that moves forward on every navigation or stale element;
+ * cached references from an older epoch are resolved again on next use
+ */
+public class ElementCache {
+    
+    private static final Map<WebDriver, AtomicLong> epochs = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong staleRetries = new AtomicLong();
+    
+    private ElementCache() {
+    }
+    
+    /**
+     * Checks if page factory elements should be cached between accesses
+     * @return true if the element cache is enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isElementCacheEnabled();
+    }
+    
+    /**
+     * Gets the current navigation epoch of a driver
+     * @param driver The WebDriver instance
+     * @return The epoch; references cached in an earlier epoch are outdated
+     */
+    public static long getEpoch(WebDriver driver) {
+        return epochs.computeIfAbsent(driver, d -> new AtomicLong()).get();
+    }
+    
+    /**
+     * Outdates every element cached for a driver, e.g. after a navigation
+     * @param driver The WebDriver instance
+     */
+    public static void invalidate(WebDriver driver) {
+        epochs.computeIfAbsent(driver, d -> new AtomicLong()).incrementAndGet();
+    }
+    
+    static void recordHit() {
+        hits.incrementAndGet();
+    }
+    
+    static void recordMiss() {
+        misses.incrementAndGet();
+    }
+    
+    static void recordStaleRetry() {
+        staleRetries.incrementAndGet();
+    }
+    
+    /**
+     * Gets the number of lookups answered from the cache
+     * @return Number of findElement round trips saved
+     */
+    public static long getHitCount() {
+        return hits.get();
+    }
+    
+    /**
+     * Gets the number of lookups that went to the driver
+     * @return Number of findElement round trips made
+     */
+    public static long getMissCount() {
+        return misses.get();
+    }
+    
+    /**
+     * Gets the number of commands retried after a cached element went stale
+     * @return Number of stale element retries
+     */
+    public static long getStaleRetryCount() {
+        return staleRetries.get();
+    }
+    
+    /**
+     * Resets all counters
+     */
+    public static void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+        staleRetries.set(0);
+    }
+    
+    /**
+     * Formats the counters for logging
+     * @return Summary of hits, misses, hit ratio and stale retries
+     */
+    public static String getSummary() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        long ratio = total == 0 ? 0 : Math.round(100.0 * hitCount / total);
+        return "Element cache: " + hitCount + " hits, " + misses.get() + " misses (" + ratio + "% hit ratio), "
+                + staleRetries.get() + " stale retries";
+    }
+}
@@ -0,0 +1,352 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * Waits for element conditions inside the page instead of polling the driver
+ * A MutationObserver re-checks the condition on every DOM change (batched per animation frame)
+ * and answers the pending async script as soon as it holds, so a wait costs one driver
+ * command per time slice instead of one every 500ms. Falls back to WebDriverWait polling
+ * when the event engine is disabled, the locator cannot be evaluated in the page or the
+ * driver does not run async scripts. Shared browser contexts also poll, since a pending
+ * async script would hold the shared session lock for the whole slice
+ */
+public class ElementWaiter {
+    
+    public static final String EVENT_ENGINE = "event";
+    public static final String POLLING_ENGINE = "polling";
+    
+    private static final String VISIBLE = "visible";
+    private static final String CLICKABLE = "clickable";
+    private static final String MUTATION = "mutation";
+    private static final String STALE = "stale";
+    
+    // Kept well below the default script timeout so a slice never trips it
+    private static final long SLICE_MILLIS = 5000;
+    
+    private static final List<String> IN_PAGE_STRATEGIES =
+            Arrays.asList("css selector", "xpath", "tag name", "link text", "partial link text");
+    
+    // Shared with the batched checks in BasePage so both agree on what visible means
+    static final String LOCATE_FUNCTION =
+            "function locate(using, value) {"
+            + "  if (using === 'css selector' || using === 'tag name') { return document.querySelector(value); }"
+            + "  if (using === 'xpath') {"
+            + "    return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "  }"
+            + "  var links = document.getElementsByTagName('a');"
+            + "  for (var i = 0; i < links.length; i++) {"
+            + "    var text = (links[i].innerText || links[i].textContent || '').trim();"
+            + "    if (using === 'link text' ? text === value : text.indexOf(value) !== -1) { return links[i]; }"
+            + "  }"
+            + "  return null;"
+            + "}"
+            // Resolves a target from toInPageTarget: tries the declared locator when a rewrite finds
+            // nothing and times the lookup for LocatorProfiler when the target is named
+            + "function locateTarget(t) {"
+            + "  var start = window.performance.now(), e = null;"
+            + "  try { e = locate(t.using, t.value); } catch (err) { if (!t.fallback) { throw err; } }"
+            + "  if (!e && t.fallback) { e = locate(t.fallback.using, t.fallback.value); }"
+            + "  if (t.name) {"
+            + "    var p = window.__locatorProfile = window.__locatorProfile || [];"
+            + "    if (p.length < 1000) { p.push({ name: t.name, locator: t.locator, ms: window.performance.now() - start, found: !!e }); }"
+            + "  }"
+            + "  return e;"
+            + "}";
+    
+    static final String VISIBLE_FUNCTION =
+            "function visible(e) {"
+            + "  if (!e || !e.isConnected || e.getClientRects().length === 0) { return false; }"
+            + "  var style = window.getComputedStyle(e);"
+            + "  if (style.visibility === 'hidden' || style.visibility === 'collapse') { return false; }"
+            + "  for (var n = e; n && n.nodeType === 1; n = n.parentElement) {"
+            + "    if (parseFloat(window.getComputedStyle(n).opacity) === 0) { return false; }"
+            + "  }"
+            + "  var rect = e.getBoundingClientRect();"
+            + "  return rect.width > 0 && rect.height > 0;"
+            + "}";
+    
+    private static final String WAIT_SCRIPT =
+            "var mode = arguments[0], target = arguments[1], locator = arguments[2],"
+            + " timeout = arguments[3], done = arguments[arguments.length - 1];"
+            // Marks the document so a failed slice can tell a navigation from a script error
+            + "document.__elementWaiterToken = arguments[4];"
+            + LOCATE_FUNCTION
+            + VISIBLE_FUNCTION
+            + "function check() {"
+            + "  if (target && !target.isConnected) { return 'stale'; }"
+            + "  var e = target || locateTarget(locator);"
+            + "  if (!visible(e)) { return null; }"
+            + "  return mode === 'clickable' && e.disabled ? null : e;"
+            + "}"
+            + "var first = mode === 'mutation' ? null : check();"
+            + "if (first) { done(first); return; }"
+            + "var finished = false, scheduled = false, timers = [];"
+            + "function finish(result) {"
+            + "  if (finished) { return; }"
+            + "  finished = true;"
+            + "  observer.disconnect();"
+            + "  document.removeEventListener('transitionend', schedule, true);"
+            + "  document.removeEventListener('animationend', schedule, true);"
+            + "  for (var i = 0; i < timers.length; i++) { clearTimeout(timers[i]); clearInterval(timers[i]); }"
+            + "  done(result);"
+            + "}"
+            + "function evaluate() {"
+            + "  scheduled = false;"
+            + "  if (mode === 'mutation') { finish(true); return; }"
+            + "  var result = check();"
+            + "  if (result) { finish(result); }"
+            + "}"
+            // rAF batches bursts of mutations; the timeout covers background tabs where rAF is paused
+            + "function schedule() {"
+            + "  if (scheduled || finished) { return; }"
+            + "  scheduled = true;"
+            + "  var fired = false, run = function () { if (!fired) { fired = true; evaluate(); } };"
+            + "  window.requestAnimationFrame(run);"
+            + "  timers.push(setTimeout(run, 50));"
+            + "}"
+            + "var observer = new MutationObserver(schedule);"
+            + "observer.observe(document.documentElement || document,"
+            + "  { childList: true, subtree: true, attributes: true, characterData: true });"
+            // Style changes from transitions and animations do not mutate the DOM
+            + "document.addEventListener('transitionend', schedule, true);"
+            + "document.addEventListener('animationend', schedule, true);"
+            + "if (mode !== 'mutation') { timers.push(setInterval(schedule, 250)); }"
+            + "timers.push(setTimeout(function () { finish(null); }, timeout));";
+    
+    private static final String TOKEN_SCRIPT = "return document.__elementWaiterToken === arguments[0];";
+    
+    private static final Set<WebDriver> pollingOnlyDrivers =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<WebDriver, Boolean>()));
+    
+    private final WebDriver driver;
+    private final WebDriverWait pollingWait;
+    private final Duration timeout;
+    
+    /**
+     * Creates a waiter for the given driver
+     * @param driver The WebDriver instance
+     * @param pollingWait The wait used when the event engine cannot be used
+     * @param timeout The maximum time to wait for a condition
+     */
+    public ElementWaiter(WebDriver driver, WebDriverWait pollingWait, Duration timeout) {
+        this.driver = driver;
+        this.pollingWait = pollingWait;
+        this.timeout = timeout;
+    }
+    
+    /**
+     * Checks if the event-driven engine is selected in the configuration
+     * @return true if waits should run inside the page, false for plain polling
+     */
+    public static boolean isEventEngineEnabled() {
+        return EVENT_ENGINE.equalsIgnoreCase(ConfigManager.getWaitEngine());
+    }
+    
+    /**
+     * Waits for an element to be visible
+     * @param element The WebElement to wait for
+     * @return The visible WebElement
+     * @throws TimeoutException if the element does not become visible in time
+     */
+    public WebElement waitForVisible(WebElement element) {
+        return waitFor(VISIBLE, element, null, ExpectedConditions.visibilityOf(element));
+    }
+    
+    /**
+     * Waits for an element to be visible and enabled
+     * @param element The WebElement to wait for
+     * @return The clickable WebElement
+     * @throws TimeoutException if the element does not become clickable in time
+     */
+    public WebElement waitForClickable(WebElement element) {
+        return waitFor(CLICKABLE, element, null, ExpectedConditions.elementToBeClickable(element));
+    }
+    
+    /**
+     * Waits for an element matching the locator to be visible
+     * @param locator The By locator
+     * @return The visible WebElement
+     * @throws TimeoutException if no matching element becomes visible in time
+     */
+    public WebElement waitForVisible(By locator) {
+        return waitFor(VISIBLE, null, locator, ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+    
+    /**
+     * Waits for an element matching the locator to be visible and enabled
+     * @param locator The By locator
+     * @return The clickable WebElement
+     * @throws TimeoutException if no matching element becomes clickable in time
+     */
+    public WebElement waitForClickable(By locator) {
+        return waitFor(CLICKABLE, null, locator, ExpectedConditions.elementToBeClickable(locator));
+    }
+    
+    /**
+     * Waits for a condition, in the page when possible and by polling otherwise
+     * @param mode The in-page condition: visible or clickable
+     * @param element The element to watch, or null when a locator is given
+     * @param locator The locator to resolve in the page, or null when an element is given
+     * @param fallback The equivalent polling condition
+     * @return The WebElement satisfying the condition
+     */
+    private WebElement waitFor(String mode, WebElement element, By locator, ExpectedCondition<WebElement> fallback) {
+        Map<String, Object> target = locator == null ? null : toInPageTarget(locator);
+        if (!isEventEngineEnabled() || BrowserContextManager.isEnabled() || pollingOnlyDrivers.contains(driver)
+                || !(driver instanceof JavascriptExecutor) || (locator != null && target == null)) {
+            return pollingWait.until(fallback);
+        }
+        
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        long remaining;
+        while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+            long slice = Math.min(remaining, SLICE_MILLIS);
+            Object result;
+            try {
+                result = target == null
+                        ? executor.executeAsyncScript(WAIT_SCRIPT, mode, element, null, slice, token)
+                        : executor.executeAsyncScript(WAIT_SCRIPT, mode, null, target, slice, token);
+            } catch (NoSuchElementException e) {
+                // A page factory element that is not in the DOM yet cannot be passed to the page,
+                // so sleep until the DOM changes and look it up again
+                if (awaitMutation(executor, slice, token)) {
+                    continue;
+                }
+                pollingOnlyDrivers.add(driver);
+                return new WebDriverWait(driver, Duration.ofMillis(Math.max(remaining, 1))).until(fallback);
+            } catch (ScriptTimeoutException | JavascriptException e) {
+                // Only a navigation while the script was pending is worth a retry in the new document;
+                // locator syntax errors and script failures in the same document are real errors
+                if (isSameDocument(executor, token)) {
+                    throw e;
+                }
+                continue;
+            } catch (StaleElementReferenceException e) {
+                if (!isCachedProxy(element)) {
+                    throw e;
+                }
+                // The cached reference went stale; outdate the cache so the proxy locates the element again
+                ElementCache.invalidate(driver);
+                continue;
+            } catch (WebDriverException e) {
+                System.err.println("Event-driven wait unavailable, falling back to polling: " + e.getMessage());
+                pollingOnlyDrivers.add(driver);
+                return new WebDriverWait(driver, Duration.ofMillis(Math.max(remaining, 1))).until(fallback);
+            }
+            
+            if (result instanceof WebElement) {
+                LocatorProfiler.collectInPage(executor);
+                return element != null ? element : (WebElement) result;
+            }
+            if (STALE.equals(result)) {
+                if (isCachedProxy(element)) {
+                    ElementCache.invalidate(driver);
+                    continue;
+                }
+                throw new StaleElementReferenceException("Element is no longer attached to the DOM: " + element);
+            }
+        }
+        
+        throw new TimeoutException("Expected condition failed: waiting for " + mode + " "
+                + (element != null ? element : locator) + " (tried for " + timeout.getSeconds() + " second(s))");
+    }
+    
+    /**
+     * Checks if an element is a page factory proxy that re-locates itself after the cache is invalidated
+     * @param element The element to check, may be null
+     * @return true if invalidating the element cache yields a fresh reference
+     */
+    private static boolean isCachedProxy(WebElement element) {
+        return element instanceof WrapsElement && ElementCache.isEnabled();
+    }
+    
+    /**
+     * Blocks until the DOM changes or the slice ends
+     * @param executor The JavaScript executor of the driver
+     * @param slice The maximum time to wait in milliseconds
+     * @param token The token the wait marks the document with
+     * @return true if the wait ran in the page, false if async scripts are not available
+     */
+    private boolean awaitMutation(JavascriptExecutor executor, long slice, String token) {
+        try {
+            executor.executeAsyncScript(WAIT_SCRIPT, MUTATION, null, null, slice, token);
+            return true;
+        } catch (ScriptTimeoutException | JavascriptException e) {
+            // Navigation also counts as a change worth re-checking
+            if (isSameDocument(executor, token)) {
+                throw e;
+            }
+            return true;
+        } catch (WebDriverException e) {
+            System.err.println("Event-driven wait unavailable, falling back to polling: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Checks if the page still shows the document a failed wait script ran in
+     * A new document has lost the token, and a query that fails because the page is still
+     * loading also counts as a navigation
+     * @param executor The JavaScript executor of the driver
+     * @param token The token the wait marked the document with
+     * @return true if the document did not change, false if the page navigated
+     */
+    private static boolean isSameDocument(JavascriptExecutor executor, String token) {
+        try {
+            return Boolean.TRUE.equals(executor.executeScript(TOKEN_SCRIPT, token));
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Gets the remote parameters of a locator if the page scripts can resolve it
+     * @param locator The By locator
+     * @return The locator strategy and value, or null if the locator must be resolved by the driver
+     */
+    static By.Remotable.Parameters getInPageParameters(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return IN_PAGE_STRATEGIES.contains(parameters.using()) && parameters.value() instanceof String
+                ? parameters : null;
+    }
+    
+    /**
+     * Builds the target the page scripts resolve with locateTarget
+     * @param locator The By locator, as returned by BasePage.getLocator for page elements
+     * @return Map with using and value, plus the declared locator and profiling name of rewritten
+     *         page elements, or null if the locator must be resolved by the driver
+     */
+    static Map<String, Object> toInPageTarget(By locator) {
+        By.Remotable.Parameters parameters = getInPageParameters(locator);
+        return parameters == null ? null : LocatorRewriter.toInPageTarget(locator, parameters);
+    }
+}
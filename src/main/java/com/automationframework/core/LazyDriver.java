@@ -0,0 +1,238 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * WebDriver handle that acquires its session from the driver pool on the first command
+ * The handle implements the interfaces of the browser's driver class, so casts to
+ * JavascriptExecutor or HasCdp work before the session exists. With speculative acquisition
+ * the session is borrowed in the background as soon as the handle is created, so the first
+ * command rarely waits; a handle that is released unused hands that session straight back
+ */
+public class LazyDriver implements InvocationHandler {
+    
+    private static final ExecutorService starter = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "lazy-driver-start");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private static final Map<String, Class<?>[]> interfaces = new ConcurrentHashMap<>();
+    
+    private static final AtomicLong created = new AtomicLong();
+    private static final AtomicLong started = new AtomicLong();
+    private static final AtomicLong unused = new AtomicLong();
+    private static final AtomicLong startWaitNanos = new AtomicLong();
+    
+    private final String browserType;
+    private final Consumer<WebDriver> onStart;
+    private CompletableFuture<WebDriver> speculative;
+    private WebDriver delegate;
+    private WebDriverException startFailure;
+    private boolean used;
+    private boolean released;
+    
+    private LazyDriver(String browserType, Consumer<WebDriver> onStart) {
+        this.browserType = browserType;
+        this.onStart = onStart;
+    }
+    
+    /**
+     * Checks if tests should get lazy driver handles
+     * @return true if lazy drivers are enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isLazyDriverEnabled();
+    }
+    
+    /**
+     * Creates a driver handle that starts its session on the first command
+     * @param browserType The type of browser to acquire
+     * @param onStart Prepares the session before the first command runs, e.g. opens the application
+     * @return The lazy WebDriver handle
+     */
+    public static WebDriver create(String browserType, Consumer<WebDriver> onStart) {
+        LazyDriver handler = new LazyDriver(browserType, onStart);
+        if (ConfigManager.isLazyDriverSpeculative()) {
+            handler.speculative = CompletableFuture.supplyAsync(() -> DriverPool.acquire(browserType), starter);
+        }
+        created.incrementAndGet();
+        return (WebDriver) Proxy.newProxyInstance(LazyDriver.class.getClassLoader(), getInterfaces(browserType), handler);
+    }
+    
+    /**
+     * Checks if a driver is a lazy handle
+     * @param driver The WebDriver instance
+     * @return true if the driver was created by this class, false otherwise
+     */
+    public static boolean isLazy(WebDriver driver) {
+        return driver != null && Proxy.isProxyClass(driver.getClass()) && Proxy.getInvocationHandler(driver) instanceof LazyDriver;
+    }
+    
+    /**
+     * Checks if a driver has a running session
+     * @param driver The WebDriver instance
+     * @return false for a lazy handle that has not run a command yet, true otherwise
+     */
+    public static boolean isStarted(WebDriver driver) {
+        if (!isLazy(driver)) {
+            return driver != null;
+        }
+        LazyDriver handler = (LazyDriver) Proxy.getInvocationHandler(driver);
+        synchronized (handler) {
+            return handler.delegate != null;
+        }
+    }
+    
+    /**
+     * Returns the session of a lazy handle to the pool; a session that is still being
+     * acquired speculatively is returned once it is ready
+     * @param driver The lazy WebDriver handle
+     */
+    static void release(WebDriver driver) {
+        ((LazyDriver) Proxy.getInvocationHandler(driver)).release();
+    }
+    
+    /**
+     * Formats how many handles needed a session and how long first commands waited for one
+     * @return The lazy driver statistics
+     */
+    public static String getSummary() {
+        long count = started.get();
+        return String.format("Lazy drivers: %d handles, %d started, %d never used, %.0f ms average first command wait",
+                created.get(), count, unused.get(), count == 0 ? 0.0 : startWaitNanos.get() / 1e6 / count);
+    }
+    
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return toString();
+            }
+        }
+        if ("quit".equals(method.getName()) && !isStarted((WebDriver) proxy)) {
+            release();
+            return null;
+        }
+        
+        WebDriver driver = start();
+        if (!method.getDeclaringClass().isInstance(driver)) {
+            throw new UnsupportedCommandException(method.getDeclaringClass().getSimpleName() + " is not supported by " + driver);
+        }
+        try {
+            return method.invoke(driver, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+    
+    /**
+     * Acquires the session and runs the start hook; commands the hook issues reach the session directly
+     */
+    private synchronized WebDriver start() {
+        if (delegate != null) {
+            return delegate;
+        }
+        if (startFailure != null) {
+            throw startFailure;
+        }
+        if (released) {
+            throw new WebDriverException("Lazy " + browserType + " driver has already been released");
+        }
+        
+        long begin = System.nanoTime();
+        try {
+            delegate = speculative != null ? join(speculative) : DriverPool.acquire(browserType);
+            speculative = null;
+            used = true;
+            ProcessTracker.claim(delegate);
+            startWaitNanos.addAndGet(System.nanoTime() - begin);
+            started.incrementAndGet();
+            onStart.accept(delegate);
+            return delegate;
+        } catch (RuntimeException e) {
+            speculative = null;
+            if (delegate != null) {
+                DriverPool.release(delegate);
+                delegate = null;
+            }
+            startFailure = e instanceof WebDriverException ? (WebDriverException) e
+                    : new WebDriverException("Failed to start " + browserType + " session: " + e.getMessage(), e);
+            throw startFailure;
+        }
+    }
+    
+    private synchronized void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        if (delegate != null) {
+            WebDriver driver = delegate;
+            delegate = null;
+            DriverPool.release(driver);
+            return;
+        }
+        if (!used) {
+            unused.incrementAndGet();
+        }
+        if (speculative != null) {
+            speculative.thenAccept(DriverPool::release);
+            speculative = null;
+        }
+    }
+    
+    private static WebDriver join(CompletableFuture<WebDriver> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+    
+    /**
+     * Collects the public interfaces of the browser's driver class and its superclasses
+     */
+    private static Class<?>[] getInterfaces(String browserType) {
+        return interfaces.computeIfAbsent(browserType.toLowerCase(), key -> {
+            Set<Class<?>> types = new LinkedHashSet<>();
+            for (Class<?> type = WebDriverFactory.getDriverClass(key); type != null; type = type.getSuperclass()) {
+                for (Class<?> candidate : type.getInterfaces()) {
+                    if (Modifier.isPublic(candidate.getModifiers())) {
+                        types.add(candidate);
+                    }
+                }
+            }
+            return types.toArray(new Class<?>[0]);
+        });
+    }
+    
+    @Override
+    public synchronized String toString() {
+        return "Lazy " + browserType + " driver" + (delegate != null ? ": " + delegate : released ? " (released)" : " (not started)");
+    }
+}
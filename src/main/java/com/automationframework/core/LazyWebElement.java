@@ -0,0 +1,207 @@
+package com.automationframework.core;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page element that looks itself up on first use, assigned by generated page element binders
+ * It behaves like a page factory proxy without reflection: every command resolves the element
+ * through a CachingElementLocator, and a command that hits a stale element is retried once
+ */
+public class LazyWebElement implements WebElement, WrapsElement, Locatable {
+    
+    private final WebDriver driver;
+    private final By by;
+    private final String name;
+    private final CachingElementLocator locator;
+    
+    /**
+     * Creates an element that is located when it is first used
+     * @param driver The WebDriver instance to search with
+     * @param by The locator of the element
+     * @param name The page element as Page.field, used for profiling, rewriting and messages
+     */
+    public LazyWebElement(WebDriver driver, By by, String name) {
+        this.driver = driver;
+        this.by = by;
+        this.name = name;
+        this.locator = new CachingElementLocator(driver, by, name);
+    }
+    
+    /**
+     * Gets the locator of the element
+     * @return The By this element is located with
+     */
+    public By getBy() {
+        return by;
+    }
+    
+    /**
+     * Gets the page element this element represents
+     * @return The page element as Page.field
+     */
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public WebElement getWrappedElement() {
+        return locator.findElement();
+    }
+    
+    private <T> T execute(Function<WebElement, T> command) {
+        try {
+            return command.apply(getWrappedElement());
+        } catch (StaleElementReferenceException e) {
+            // A re-render or navigation replaced the node; everything cached for this driver may be outdated
+            ElementCache.invalidate(driver);
+            ElementCache.recordStaleRetry();
+            return command.apply(getWrappedElement());
+        }
+    }
+    
+    @Override
+    public void click() {
+        execute(element -> {
+            element.click();
+            return null;
+        });
+    }
+    
+    @Override
+    public void submit() {
+        execute(element -> {
+            element.submit();
+            return null;
+        });
+    }
+    
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        execute(element -> {
+            element.sendKeys(keysToSend);
+            return null;
+        });
+    }
+    
+    @Override
+    public void clear() {
+        execute(element -> {
+            element.clear();
+            return null;
+        });
+    }
+    
+    @Override
+    public String getTagName() {
+        return execute(WebElement::getTagName);
+    }
+    
+    @Override
+    public String getDomProperty(String propertyName) {
+        return execute(element -> element.getDomProperty(propertyName));
+    }
+    
+    @Override
+    public String getDomAttribute(String attributeName) {
+        return execute(element -> element.getDomAttribute(attributeName));
+    }
+    
+    @Override
+    public String getAttribute(String attributeName) {
+        return execute(element -> element.getAttribute(attributeName));
+    }
+    
+    @Override
+    public String getAriaRole() {
+        return execute(WebElement::getAriaRole);
+    }
+    
+    @Override
+    public String getAccessibleName() {
+        return execute(WebElement::getAccessibleName);
+    }
+    
+    @Override
+    public boolean isSelected() {
+        return execute(WebElement::isSelected);
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return execute(WebElement::isEnabled);
+    }
+    
+    @Override
+    public String getText() {
+        return execute(WebElement::getText);
+    }
+    
+    @Override
+    public List<WebElement> findElements(By by) {
+        return execute(element -> element.findElements(by));
+    }
+    
+    @Override
+    public WebElement findElement(By by) {
+        return execute(element -> element.findElement(by));
+    }
+    
+    @Override
+    public SearchContext getShadowRoot() {
+        return execute(WebElement::getShadowRoot);
+    }
+    
+    @Override
+    public boolean isDisplayed() {
+        return execute(WebElement::isDisplayed);
+    }
+    
+    @Override
+    public Point getLocation() {
+        return execute(WebElement::getLocation);
+    }
+    
+    @Override
+    public Dimension getSize() {
+        return execute(WebElement::getSize);
+    }
+    
+    @Override
+    public Rectangle getRect() {
+        return execute(WebElement::getRect);
+    }
+    
+    @Override
+    public String getCssValue(String propertyName) {
+        return execute(element -> element.getCssValue(propertyName));
+    }
+    
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return execute(element -> element.getScreenshotAs(target));
+    }
+    
+    @Override
+    public Coordinates getCoordinates() {
+        return execute(element -> ((Locatable) element).getCoordinates());
+    }
+    
+    @Override
+    public String toString() {
+        return "Lazy element " + name + " for: " + by;
+    }
+}
@@ -0,0 +1,243 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every page element lookup that reaches the driver and ranks locators by cumulative cost
+ * Lookups answered by the element cache cost nothing and are not recorded. Lookups made by the
+ * batched page scripts are timed in the page and collected after each script. For the first element
+ * an XPath finds, the profiler reads its test attribute or id so the report can suggest a mapping
+ * for LocatorRewriter
+ */
+public class LocatorProfiler {
+    
+    private static final String COLLECT_SCRIPT =
+            "var p = window.__locatorProfile || []; window.__locatorProfile = []; return p;";
+    
+    private static final Map<String, LocatorStats> stats = new ConcurrentHashMap<>();
+    private static final Map<String, String> suggestions = new ConcurrentHashMap<>();
+    
+    private LocatorProfiler() {
+    }
+    
+    /**
+     * Checks if page element lookups should be timed
+     * @return true if the locator profiler is enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isLocatorProfilerEnabled();
+    }
+    
+    /**
+     * Records one lookup
+     * @param name The page element as Page.field
+     * @param by The locator that was used
+     * @param nanos The duration of the lookup in nanoseconds
+     * @param found true if the lookup found at least one element
+     */
+    public static void record(String name, By by, long nanos, boolean found) {
+        if (isEnabled()) {
+            stats.computeIfAbsent(name, key -> new LocatorStats(key)).record(by.toString(), nanos, found);
+        }
+    }
+    
+    /**
+     * Records the lookups the page scripts have timed since the last collection
+     * Costs one script execution, and only runs while the profiler is enabled
+     * @param executor The JavaScript executor of the driver the scripts ran on
+     */
+    @SuppressWarnings("unchecked")
+    public static void collectInPage(JavascriptExecutor executor) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            List<Map<String, Object>> lookups = (List<Map<String, Object>>) executor.executeScript(COLLECT_SCRIPT);
+            for (Map<String, Object> lookup : lookups) {
+                long nanos = (long) (((Number) lookup.get("ms")).doubleValue() * 1_000_000);
+                stats.computeIfAbsent(String.valueOf(lookup.get("name")), key -> new LocatorStats(key))
+                        .record(String.valueOf(lookup.get("locator")), nanos, Boolean.TRUE.equals(lookup.get("found")));
+            }
+        } catch (WebDriverException e) {
+            // Profiling is best effort, e.g. the page navigated after the script
+        }
+    }
+    
+    /**
+     * Suggests a test attribute or id mapping for an element found by XPath, once per page element
+     * @param name The page element as Page.field
+     * @param by The locator that found the element
+     * @param element The element found
+     */
+    public static void suggestRewrite(String name, By by, WebElement element) {
+        if (!isEnabled() || !by.toString().startsWith("By.xpath") || suggestions.containsKey(name)) {
+            return;
+        }
+        String suggestion = "";
+        try {
+            String testId = element.getDomAttribute(ConfigManager.getLocatorTestIdAttribute());
+            String id = element.getDomAttribute("id");
+            if (testId != null && !testId.isEmpty()) {
+                suggestion = LocatorRewriter.toTestIdMapping(name, testId);
+            } else if (id != null && !id.isEmpty()) {
+                suggestion = LocatorRewriter.toIdMapping(name, id);
+            }
+        } catch (WebDriverException e) {
+            // The suggestion is best effort, the lookup itself succeeded
+        }
+        suggestions.putIfAbsent(name, suggestion);
+    }
+    
+    /**
+     * Gets the recorded locators ranked by cumulative lookup time
+     * @return Statistics per page element, slowest first
+     */
+    public static List<LocatorStats> getRanking() {
+        List<LocatorStats> ranking = new ArrayList<>();
+        // Copies keep the order stable while other threads keep recording
+        for (LocatorStats entry : stats.values()) {
+            ranking.add(entry.copy());
+        }
+        ranking.sort(Comparator.comparingLong(LocatorStats::getTotalNanos).reversed());
+        return ranking;
+    }
+    
+    /**
+     * Formats the ranking and the suggested rewrites
+     * @param limit The maximum number of locators to list, 0 for all
+     * @return The report, or an empty string if nothing was recorded
+     */
+    public static String getReport(int limit) {
+        List<LocatorStats> ranking = getRanking();
+        if (ranking.isEmpty()) {
+            return "";
+        }
+        
+        StringBuilder report = new StringBuilder("Locator profile, slowest cumulative lookup time first:\n");
+        int count = limit > 0 ? Math.min(limit, ranking.size()) : ranking.size();
+        for (int i = 0; i < count; i++) {
+            LocatorStats entry = ranking.get(i);
+            report.append(String.format("%3d. %-45s %6d lookups %9.1f ms total %7.1f ms avg %7.1f ms max %4d not found  %s%n",
+                    i + 1, entry.getName(), entry.getCount(), entry.getTotalNanos() / 1e6, entry.getAverageNanos() / 1e6,
+                    entry.getMaxNanos() / 1e6, entry.getNotFoundCount(), entry.getLocator()));
+        }
+        
+        StringBuilder rewrites = new StringBuilder();
+        for (LocatorStats entry : ranking) {
+            String suggestion = suggestions.get(entry.getName());
+            if (suggestion != null && !suggestion.isEmpty()) {
+                rewrites.append("  ").append(suggestion).append(System.lineSeparator());
+            }
+        }
+        if (rewrites.length() > 0) {
+            report.append("Suggested entries for ").append(ConfigManager.getLocatorRewriteFile()).append(":\n").append(rewrites);
+        }
+        return report.toString();
+    }
+    
+    /**
+     * Writes the full report to the configured file; the suite report lists the slowest locators
+     */
+    public static void writeReport() {
+        if (!isEnabled() || stats.isEmpty()) {
+            return;
+        }
+        Path file = Paths.get(ConfigManager.getLocatorProfilerReportFile());
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, getReport(0).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Failed to write locator profile to " + file + ": " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Clears all recorded lookups and suggestions
+     */
+    public static void reset() {
+        stats.clear();
+        suggestions.clear();
+    }
+    
+    /**
+     * Lookup statistics of one page element
+     */
+    public static final class LocatorStats {
+        
+        private final String name;
+        private String locator;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long notFoundCount;
+        
+        LocatorStats(String name) {
+            this.name = name;
+        }
+        
+        synchronized void record(String locator, long nanos, boolean found) {
+            this.locator = locator;
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            if (!found) {
+                notFoundCount++;
+            }
+        }
+        
+        synchronized LocatorStats copy() {
+            LocatorStats copy = new LocatorStats(name);
+            copy.locator = locator;
+            copy.count = count;
+            copy.totalNanos = totalNanos;
+            copy.maxNanos = maxNanos;
+            copy.notFoundCount = notFoundCount;
+            return copy;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public synchronized String getLocator() {
+            return locator;
+        }
+        
+        public synchronized long getCount() {
+            return count;
+        }
+        
+        public synchronized long getTotalNanos() {
+            return totalNanos;
+        }
+        
+        public synchronized long getAverageNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+        
+        public synchronized long getMaxNanos() {
+            return maxNanos;
+        }
+        
+        public synchronized long getNotFoundCount() {
+            return notFoundCount;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replaces slow page element locators with faster ones from a mapping file
+ * Keys are page elements as Page.field, values are a strategy and a value, e.g.
+ * {@code DashboardPage.automationMenu=testid:nav-automation} or {@code css:a[href$='/automation']}.
+ * A mapped locator that finds nothing while the original finds the element is dropped for the
+ * rest of the run, so a stale mapping costs one extra lookup instead of breaking tests. In-page
+ * lookups carry the declared locator as a fallback instead
+ */
+public class LocatorRewriter {
+    
+    private static final String CSS = "css:";
+    private static final String TEST_ID = "testid:";
+    private static final String ID = "id:";
+    private static final String NAME = "name:";
+    private static final String XPATH = "xpath:";
+    
+    private static volatile Map<String, By> rewrites;
+    private static final Map<By, PageLocator> pageLocators = new ConcurrentHashMap<>();
+    
+    private LocatorRewriter() {
+    }
+    
+    /**
+     * Checks if page element locators should be rewritten from the mapping file
+     * @return true if locator rewriting is enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isLocatorRewriteEnabled();
+    }
+    
+    /**
+     * Gets the locator to use for a page element
+     * @param name The page element as Page.field
+     * @param by The locator declared on the field
+     * @return The mapped locator, or the declared one if there is no mapping
+     */
+    public static By rewrite(String name, By by) {
+        By rewritten = isEnabled() ? getRewrites().get(name) : null;
+        By result = rewritten != null ? rewritten : by;
+        pageLocators.putIfAbsent(result, new PageLocator(name, by));
+        return result;
+    }
+    
+    /**
+     * Builds the target the page scripts resolve with locateTarget
+     * A rewritten locator carries the declared one as a fallback, and page elements carry their
+     * name so LocatorProfiler can time the lookup in the page
+     * @param locator The locator as returned by rewrite, or any other locator
+     * @param parameters The in-page strategy and value of the locator
+     * @return Map with using and value, plus fallback and name when known
+     */
+    static Map<String, Object> toInPageTarget(By locator, By.Remotable.Parameters parameters) {
+        Map<String, Object> target = new HashMap<>();
+        target.put("using", parameters.using());
+        target.put("value", parameters.value());
+        PageLocator pageLocator = pageLocators.get(locator);
+        if (pageLocator == null) {
+            return target;
+        }
+        if (!pageLocator.declared.equals(locator)) {
+            By.Remotable.Parameters declared = ElementWaiter.getInPageParameters(pageLocator.declared);
+            if (declared != null) {
+                Map<String, Object> fallback = new HashMap<>();
+                fallback.put("using", declared.using());
+                fallback.put("value", declared.value());
+                target.put("fallback", fallback);
+            }
+        }
+        if (LocatorProfiler.isEnabled()) {
+            target.put("name", pageLocator.name);
+            target.put("locator", locator.toString());
+        }
+        return target;
+    }
+    
+    /**
+     * Drops a mapping that does not match the element the declared locator finds
+     * @param name The page element as Page.field
+     * @param rewritten The mapped locator that found nothing
+     */
+    public static void reject(String name, By rewritten) {
+        if (getRewrites().remove(name, rewritten)) {
+            System.err.println("Locator rewrite for " + name + " found nothing, using the declared locator: " + rewritten);
+        }
+    }
+    
+    /**
+     * Builds a mapping file entry for an element located by its test attribute
+     * @param name The page element as Page.field
+     * @param testId The value of the test attribute
+     * @return The line to add to the mapping file
+     */
+    public static String toTestIdMapping(String name, String testId) {
+        return name + "=" + TEST_ID + testId;
+    }
+    
+    /**
+     * Builds a mapping file entry for an element located by its id
+     * @param name The page element as Page.field
+     * @param id The id of the element
+     * @return The line to add to the mapping file
+     */
+    public static String toIdMapping(String name, String id) {
+        return name + "=" + ID + id;
+    }
+    
+    /**
+     * Parses a mapping value
+     * @param value The strategy and value, e.g. testid:submit-button
+     * @return The locator, or null if the strategy is unknown
+     */
+    static By parse(String value) {
+        String mapping = value.trim();
+        if (mapping.startsWith(CSS)) {
+            return By.cssSelector(mapping.substring(CSS.length()));
+        }
+        if (mapping.startsWith(TEST_ID)) {
+            String testId = mapping.substring(TEST_ID.length()).replace("\\", "\\\\").replace("'", "\\'");
+            return By.cssSelector("[" + ConfigManager.getLocatorTestIdAttribute() + "='" + testId + "']");
+        }
+        if (mapping.startsWith(ID)) {
+            return By.id(mapping.substring(ID.length()));
+        }
+        if (mapping.startsWith(NAME)) {
+            return By.name(mapping.substring(NAME.length()));
+        }
+        if (mapping.startsWith(XPATH)) {
+            return By.xpath(mapping.substring(XPATH.length()));
+        }
+        return null;
+    }
+    
+    /**
+     * A page element and the locator declared on its field
+     */
+    private static final class PageLocator {
+        
+        private final String name;
+        private final By declared;
+        
+        PageLocator(String name, By declared) {
+            this.name = name;
+            this.declared = declared;
+        }
+    }
+    
+    private static Map<String, By> getRewrites() {
+        if (rewrites == null) {
+            synchronized (LocatorRewriter.class) {
+                if (rewrites == null) {
+                    rewrites = loadRewrites(ConfigManager.getLocatorRewriteFile());
+                }
+            }
+        }
+        return rewrites;
+    }
+    
+    /**
+     * Loads the mapping file from the file system, or from the classpath if there is no such file
+     * @param file The mapping file
+     * @return Map of page elements to their replacement locators
+     */
+    private static Map<String, By> loadRewrites(String file) {
+        Map<String, By> mappings = new ConcurrentHashMap<>();
+        Properties properties = new Properties();
+        Path path = Paths.get(file);
+        try (InputStream input = Files.isRegularFile(path) ? Files.newInputStream(path)
+                : LocatorRewriter.class.getClassLoader().getResourceAsStream(file)) {
+            if (input == null) {
+                System.err.println("Unable to find locator rewrite file " + file);
+                return mappings;
+            }
+            properties.load(input);
+        } catch (IOException e) {
+            System.err.println("Error loading locator rewrite file " + file + ": " + e.getMessage());
+            return mappings;
+        }
+        
+        for (String name : properties.stringPropertyNames()) {
+            By by = parse(properties.getProperty(name));
+            if (by == null) {
+                System.err.println("Ignoring locator rewrite " + name + ": expected css:, testid:, id:, name: or xpath:");
+            } else {
+                mappings.put(name, by);
+            }
+        }
+        return mappings;
+    }
+}
@@ -0,0 +1,19 @@
+package com.automationframework.core;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Assigns the annotated WebElement fields of one page class without reflection
+ * Implementations are generated at compile time by PageElementsProcessor as
+ * {@code <PageClass>_PageElements} in the package of the page
+ * @param <P> The page class
+ */
+public interface PageElementBinder<P> {
+    
+    /**
+     * Assigns a lazily located element to every annotated field of the page
+     * @param page The page to initialize
+     * @param driver The WebDriver instance the elements are located with
+     */
+    void bind(P page, WebDriver driver);
+}
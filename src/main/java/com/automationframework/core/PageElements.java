@@ -0,0 +1,67 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Initializes page elements through the binders generated at compile time
+ * Each page class is looked up once; pages without a generated binder, e.g. because
+ * their fields are static or final, keep using PageFactory
+ */
+public class PageElements {
+    
+    public static final String BINDER_SUFFIX = "_PageElements";
+    
+    private static final Map<Class<?>, Optional<PageElementBinder<Object>>> binders = new ConcurrentHashMap<>();
+    
+    private PageElements() {
+    }
+    
+    /**
+     * Checks if generated page element binders should replace PageFactory
+     * @return true if generated binders are enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isGeneratedPageElementsEnabled();
+    }
+    
+    /**
+     * Checks if a page class has a generated binder
+     * @param pageClass The page class
+     * @return true if the page can be initialized without PageFactory
+     */
+    public static boolean hasBinder(Class<?> pageClass) {
+        return getBinder(pageClass).isPresent();
+    }
+    
+    /**
+     * Assigns lazily located elements to the annotated fields of a page
+     * @param page The page to initialize
+     * @param driver The WebDriver instance the elements are located with
+     * @return true if the page was initialized, false if it has no generated binder
+     */
+    public static boolean bind(Object page, WebDriver driver) {
+        Optional<PageElementBinder<Object>> binder = getBinder(page.getClass());
+        binder.ifPresent(b -> b.bind(page, driver));
+        return binder.isPresent();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Optional<PageElementBinder<Object>> getBinder(Class<?> pageClass) {
+        return binders.computeIfAbsent(pageClass, type -> {
+            try {
+                Class<?> binderClass = Class.forName(type.getName() + BINDER_SUFFIX, true, type.getClassLoader());
+                return Optional.of((PageElementBinder<Object>) binderClass.getDeclaredConstructor().newInstance());
+            } catch (ClassNotFoundException e) {
+                return Optional.empty();
+            } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+                System.err.println("Failed to load page element binder for " + type.getName() + ": " + e.getMessage());
+                return Optional.empty();
+            }
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package com.automationframework.core;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Pages of the application and the UI transitions between them
+ * Each page knows how to create its page object, how to recognize it and optionally a URL
+ * it can be opened at directly. Links are the clicks that lead from one page to another
+ */
+public class PageGraph {
+    
+    private final Map<Class<? extends BasePage>, Node<?>> nodes = new LinkedHashMap<>();
+    
+    /**
+     * UI transition from a page to another page
+     * @param <F> The page the transition starts on
+     */
+    @FunctionalInterface
+    public interface Transition<F extends BasePage> {
+        
+        /**
+         * Performs the transition
+         * @param from The page object of the current page
+         * @throws WebExceptions if the transition fails
+         */
+        void navigate(F from) throws WebExceptions;
+    }
+    
+    /**
+     * Adds a page
+     * @param type The page class
+     * @param factory Creates the page object for a driver
+     * @param isAt Checks without waiting if the driver shows the page
+     * @param url Supplies the URL the page can be opened at, or null if it has none
+     * @param <P> The page class
+     * @return This graph
+     */
+    public <P extends BasePage> PageGraph page(Class<P> type, Function<WebDriver, P> factory, Predicate<P> isAt,
+            Supplier<String> url) {
+        nodes.put(type, new Node<>(type, factory, isAt, url));
+        return this;
+    }
+    
+    /**
+     * Adds a UI transition between two pages that were added before
+     * @param from The page the transition starts on
+     * @param to The page the transition leads to
+     * @param transition Performs the transition
+     * @param <F> The page the transition starts on
+     * @return This graph
+     * @throws IllegalArgumentException if one of the pages was not added
+     */
+    public <F extends BasePage> PageGraph link(Class<F> from, Class<? extends BasePage> to, Transition<F> transition) {
+        if (!nodes.containsKey(to)) {
+            throw new IllegalArgumentException("Unknown page " + to.getSimpleName());
+        }
+        getNode(from).links.add(new Link<>(to, transition));
+        return this;
+    }
+    
+    @SuppressWarnings("unchecked")
+    <P extends BasePage> Node<P> getNode(Class<P> type) {
+        Node<P> node = (Node<P>) nodes.get(type);
+        if (node == null) {
+            throw new IllegalArgumentException("Unknown page " + type.getSimpleName());
+        }
+        return node;
+    }
+    
+    Collection<Node<?>> getNodes() {
+        return Collections.unmodifiableCollection(nodes.values());
+    }
+    
+    static final class Node<P extends BasePage> {
+        
+        final Class<P> type;
+        private final Function<WebDriver, P> factory;
+        private final Predicate<P> isAt;
+        private final Supplier<String> url;
+        final List<Link<P>> links = new ArrayList<>();
+        
+        Node(Class<P> type, Function<WebDriver, P> factory, Predicate<P> isAt, Supplier<String> url) {
+            this.type = type;
+            this.factory = factory;
+            this.isAt = isAt;
+            this.url = url;
+        }
+        
+        P create(WebDriver driver) {
+            return factory.apply(driver);
+        }
+        
+        boolean isAt(BasePage page) {
+            return type.isInstance(page) && isAt.test(type.cast(page));
+        }
+        
+        String getUrl() {
+            String value = url != null ? url.get() : null;
+            return value == null || value.trim().isEmpty() ? null : value.trim();
+        }
+    }
+    
+    static final class Link<F extends BasePage> {
+        
+        final Class<? extends BasePage> to;
+        private final Transition<F> transition;
+        
+        Link(Class<? extends BasePage> to, Transition<F> transition) {
+            this.to = to;
+            this.transition = transition;
+        }
+        
+        void navigate(BasePage from) throws WebExceptions {
+            @SuppressWarnings("unchecked")
+            F page = (F) from;
+            transition.navigate(page);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Brings a driver to a page of a PageGraph along the cheapest route
+ * The page each driver was last brought to is remembered together with its URL, so asking for
+ * the current page costs one URL read and one visibility check. Every click transition costs 1
+ * and a deep link to a page with a URL costs navigation.deeplink.cost; of equally cheap routes
+ * the one with fewer steps wins
+ */
+public class PageNavigator {
+    
+    private static final int CLICK_COST = 1;
+    
+    // Start of a route when the current page is unknown; never a page of the graph
+    private static final Class<? extends BasePage> UNKNOWN_PAGE = BasePage.class;
+    
+    private static final Map<WebDriver, Location> locations = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private final WebDriver driver;
+    private final PageGraph graph;
+    private final Duration timeout;
+    
+    /**
+     * Creates a navigator for a driver
+     * @param driver The WebDriver instance to navigate
+     * @param graph The pages of the application and the transitions between them
+     */
+    public PageNavigator(WebDriver driver, PageGraph graph) {
+        this.driver = driver;
+        this.graph = graph;
+        this.timeout = Duration.ofSeconds(10);
+    }
+    
+    /**
+     * Brings the driver to a page, doing nothing if it is already there
+     * @param target The page class
+     * @param <P> The page class
+     * @return The page object of the target page
+     * @throws WebExceptions if there is no route or the target page is not reached
+     */
+    public <P extends BasePage> P navigateTo(Class<P> target) throws WebExceptions {
+        PageGraph.Node<P> targetNode = graph.getNode(target);
+        BasePage current = findCurrentPage();
+        if (target.isInstance(current)) {
+            return target.cast(current);
+        }
+        
+        Class<? extends BasePage> start = current != null ? current.getClass() : UNKNOWN_PAGE;
+        List<Step> route = findRoute(start, target);
+        if (route == null) {
+            throw new WebExceptions(WebExceptions.ExceptionType.GENERAL_EXCEPTION, "No route to " + target.getSimpleName()
+                    + " from " + (current != null ? start.getSimpleName() : "an unknown page")
+                    + (isDeepLinkEnabled() ? "" : " with deep links disabled"));
+        }
+        
+        BasePage page = current;
+        for (Step step : route) {
+            if (step.link != null) {
+                step.link.navigate(page);
+                page = step.node.create(driver);
+            } else {
+                page = open(step.node);
+            }
+        }
+        return target.cast(awaitArrival(targetNode, page));
+    }
+    
+    /**
+     * Identifies the page the driver shows, checking the remembered page first
+     * @return The page object of the current page, or null if no page of the graph is shown
+     */
+    public BasePage findCurrentPage() {
+        String url = driver.getCurrentUrl();
+        Location location = locations.get(driver);
+        if (location != null && location.url.equals(url)) {
+            BasePage page = check(graph.getNode(location.page));
+            if (page != null) {
+                return page;
+            }
+        }
+        
+        for (PageGraph.Node<?> node : graph.getNodes()) {
+            String pageUrl = node.getUrl();
+            if (pageUrl != null && isSamePage(url, pageUrl) && (location == null || node.type != location.page)) {
+                BasePage page = check(node);
+                if (page != null) {
+                    remember(page);
+                    return page;
+                }
+            }
+        }
+        locations.remove(driver);
+        return null;
+    }
+    
+    /**
+     * Forgets the page a driver was brought to, e.g. after navigating without the navigator
+     * @param driver The WebDriver instance
+     */
+    public static void forget(WebDriver driver) {
+        locations.remove(driver);
+    }
+    
+    private BasePage check(PageGraph.Node<?> node) {
+        BasePage page = node.create(driver);
+        return node.isAt(page) ? page : null;
+    }
+    
+    private BasePage open(PageGraph.Node<?> node) throws WebExceptions {
+        String url = node.getUrl();
+        driver.get(url);
+        BasePage page = node.create(driver);
+        page.waitForPageLoad();
+        if (!SessionStateCache.verify(driver)) {
+            forget(driver);
+            throw new WebExceptions(WebExceptions.ExceptionType.GENERAL_EXCEPTION,
+                    "Deep link to " + node.type.getSimpleName() + " requires a logged in session: " + url);
+        }
+        return page;
+    }
+    
+    private BasePage awaitArrival(PageGraph.Node<?> node, BasePage page) throws WebExceptions {
+        try {
+            new WebDriverWait(driver, timeout).until(webDriver -> node.isAt(page));
+        } catch (TimeoutException e) {
+            forget(driver);
+            throw new WebExceptions(WebExceptions.ExceptionType.TIMEOUT_EXCEPTION,
+                    "Navigation did not reach " + node.type.getSimpleName() + ", current URL: " + driver.getCurrentUrl(), e);
+        }
+        remember(page);
+        return page;
+    }
+    
+    private void remember(BasePage page) {
+        locations.put(driver, new Location(page.getClass(), driver.getCurrentUrl()));
+    }
+    
+    /**
+     * Finds the cheapest route with Dijkstra's algorithm; the graph has a handful of pages
+     * @param start The current page, or UNKNOWN_PAGE
+     * @param target The page to reach
+     * @return The steps to take, or null if the target cannot be reached
+     */
+    private List<Step> findRoute(Class<? extends BasePage> start, Class<? extends BasePage> target) {
+        boolean deepLinks = isDeepLinkEnabled();
+        int deepLinkCost = ConfigManager.getDeepLinkNavigationCost();
+        Map<Class<? extends BasePage>, Route> routes = new HashMap<>();
+        Set<Class<? extends BasePage>> settled = new HashSet<>();
+        routes.put(start, new Route(null, null, 0, 0));
+        
+        while (true) {
+            Class<? extends BasePage> nearest = null;
+            for (Map.Entry<Class<? extends BasePage>, Route> entry : routes.entrySet()) {
+                if (!settled.contains(entry.getKey()) && (nearest == null || entry.getValue().isCheaperThan(routes.get(nearest)))) {
+                    nearest = entry.getKey();
+                }
+            }
+            if (nearest == null) {
+                return null;
+            }
+            if (nearest == target) {
+                break;
+            }
+            settled.add(nearest);
+            
+            Route route = routes.get(nearest);
+            if (nearest != UNKNOWN_PAGE) {
+                for (PageGraph.Link<?> link : graph.getNode(nearest).links) {
+                    relax(routes, settled, nearest, route, new Step(graph.getNode(link.to), link), CLICK_COST);
+                }
+            }
+            if (deepLinks) {
+                for (PageGraph.Node<?> node : graph.getNodes()) {
+                    if (node.type != nearest && node.getUrl() != null) {
+                        relax(routes, settled, nearest, route, new Step(node, null), deepLinkCost);
+                    }
+                }
+            }
+        }
+        
+        LinkedList<Step> steps = new LinkedList<>();
+        for (Class<? extends BasePage> page = target; page != start; page = routes.get(page).previous) {
+            steps.addFirst(routes.get(page).step);
+        }
+        return steps;
+    }
+    
+    private static void relax(Map<Class<? extends BasePage>, Route> routes, Set<Class<? extends BasePage>> settled,
+            Class<? extends BasePage> from, Route route, Step step, int cost) {
+        Route candidate = new Route(from, step, route.cost + cost, route.steps + 1);
+        Route known = routes.get(step.node.type);
+        if (!settled.contains(step.node.type) && (known == null || candidate.isCheaperThan(known))) {
+            routes.put(step.node.type, candidate);
+        }
+    }
+    
+    private static boolean isDeepLinkEnabled() {
+        return ConfigManager.isDeepLinkNavigationEnabled();
+    }
+    
+    /**
+     * Compares URLs without query, fragment and trailing slash
+     */
+    private static boolean isSamePage(String url, String pageUrl) {
+        return stripUrl(url).equalsIgnoreCase(stripUrl(pageUrl));
+    }
+    
+    private static String stripUrl(String url) {
+        String stripped = url == null ? "" : url.replaceAll("[?#].*$", "");
+        return stripped.endsWith("/") ? stripped.substring(0, stripped.length() - 1) : stripped;
+    }
+    
+    private static final class Location {
+        
+        private final Class<? extends BasePage> page;
+        private final String url;
+        
+        Location(Class<? extends BasePage> page, String url) {
+            this.page = page;
+            this.url = url;
+        }
+    }
+    
+    private static final class Step {
+        
+        private final PageGraph.Node<?> node;
+        private final PageGraph.Link<?> link;
+        
+        Step(PageGraph.Node<?> node, PageGraph.Link<?> link) {
+            this.node = node;
+            this.link = link;
+        }
+    }
+    
+    private static final class Route {
+        
+        private final Class<? extends BasePage> previous;
+        private final Step step;
+        private final int cost;
+        private final int steps;
+        
+        Route(Class<? extends BasePage> previous, Step step, int cost, int steps) {
+            this.previous = previous;
+            this.step = step;
+            this.cost = cost;
+            this.steps = steps;
+        }
+        
+        boolean isCheaperThan(Route other) {
+            return cost < other.cost || (cost == other.cost && steps < other.steps);
+        }
+    }
+}
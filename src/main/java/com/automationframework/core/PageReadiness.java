@@ -0,0 +1,185 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.Script;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Detects when a page is ready after an action without assuming a navigation happened
+ * A small tracker in every document counts started and in-flight fetch/XHR requests and
+ * records the last network or DOM activity. A readiness check that finds the tracker of the
+ * previous check, no request started and no unload since then returns at once without the
+ * quiet window; after a navigation, a request or an unload it waits in the page for
+ * readyState complete, network idle and a quiet DOM
+ */
+public class PageReadiness {
+    
+    public static final String SMART_MODE = "smart";
+    public static final String READY_STATE_MODE = "readystate";
+    
+    private static final long SLICE_MILLIS = 5000;
+    // Shared browser contexts serialize commands, so keep the session lock free between short slices
+    private static final long CONTEXT_SLICE_MILLIS = 250;
+    
+    private static final String TRACKER_SCRIPT =
+            "(function () {"
+            + "  if (window.__afReadiness) { return; }"
+            + "  var t = window.__afReadiness = { inflight: 0, started: 0, last: Date.now(), unloadingAt: 0,"
+            + "    seen: false, checkedStarted: 0, checkedAt: 0 };"
+            + "  var touch = function () { t.last = Date.now(); };"
+            + "  var end = function () { t.inflight = Math.max(0, t.inflight - 1); touch(); };"
+            + "  if (window.fetch) {"
+            + "    var fetch = window.fetch;"
+            + "    window.fetch = function () {"
+            + "      t.inflight++; t.started++; touch();"
+            + "      try { var p = fetch.apply(this, arguments); p.then(end, end); return p; }"
+            + "      catch (e) { end(); throw e; }"
+            + "    };"
+            + "  }"
+            + "  var send = XMLHttpRequest.prototype.send;"
+            + "  XMLHttpRequest.prototype.send = function () {"
+            + "    t.inflight++; t.started++; touch();"
+            + "    this.addEventListener('loadend', end);"
+            + "    try { return send.apply(this, arguments); } catch (e) { end(); throw e; }"
+            + "  };"
+            + "  window.addEventListener('beforeunload', function () { t.unloadingAt = Date.now(); });"
+            + "  new MutationObserver(touch).observe(document,"
+            + "    { childList: true, subtree: true, attributes: true, characterData: true });"
+            + "})();";
+    
+    private static final String READY_SCRIPT =
+            "var quiet = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];"
+            // Marks the document so a failed check can tell a navigation from a script error
+            + "document.__afReadinessToken = arguments[2];"
+            + TRACKER_SCRIPT
+            + "var t = window.__afReadiness, navigated = !t.seen, started = Date.now(), timer;"
+            + "function ready() {"
+            + "  var now = Date.now();"
+            + "  return document.readyState === 'complete' && t.inflight === 0 && now - t.last >= quiet"
+            + "    && !(t.unloadingAt && now - t.unloadingAt < 2000);"
+            + "}"
+            + "function finish(isReady) {"
+            + "  clearInterval(timer);"
+            + "  t.seen = true;"
+            + "  if (isReady) { t.checkedStarted = t.started; t.checkedAt = Date.now(); }"
+            + "  done({ navigated: navigated, ready: isReady });"
+            + "}"
+            // Nothing that could change the page happened since the last check, so skip the quiet window
+            + "if (!navigated && t.started === t.checkedStarted && t.unloadingAt < t.checkedAt"
+            + "    && t.inflight === 0 && document.readyState === 'complete') { finish(true); return; }"
+            + "if (ready()) { finish(true); return; }"
+            + "timer = setInterval(function () {"
+            + "  if (ready()) { finish(true); } else if (Date.now() - started >= timeout) { finish(false); }"
+            + "}, 25);";
+    
+    private static final String TOKEN_SCRIPT = "return document.__afReadinessToken === arguments[0];";
+    
+    private PageReadiness() {
+    }
+    
+    /**
+     * Checks if smart readiness detection is selected in the configuration
+     * @return true for smart readiness, false for plain document.readyState polling
+     */
+    public static boolean isSmartModeEnabled() {
+        return SMART_MODE.equalsIgnoreCase(ConfigManager.getReadinessMode());
+    }
+    
+    /**
+     * Registers the request tracker to run before any page script of new documents
+     * Requests started while a page loads are only counted when the tracker is preloaded;
+     * otherwise it is installed on the first readiness check of each document
+     * @param driver The WebDriver instance
+     */
+    public static void install(WebDriver driver) {
+        if (!isSmartModeEnabled()) {
+            return;
+        }
+        try {
+            if (driver instanceof HasCdp) {
+                ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                        Collections.<String, Object>singletonMap("source", TRACKER_SCRIPT));
+            } else if (driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent()) {
+                new Script(driver).addPreloadScript("() => {" + TRACKER_SCRIPT + "}");
+            }
+        } catch (Exception e) {
+            System.err.println("Failed to preload readiness tracker: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Waits until the current page is ready after an action
+     * Returns after a single in-page check when no navigation happened and nothing is loading
+     * @param driver The WebDriver instance
+     * @param timeout The maximum time to wait
+     * @return true if a new document was loaded since the previous check, false otherwise
+     * @throws TimeoutException if the page is not ready in time
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean waitUntilReady(WebDriver driver, Duration timeout) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return true;
+        }
+        
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        long quietMillis = ConfigManager.getReadinessQuietMillis();
+        long maxSlice = BrowserContextManager.isEnabled() ? CONTEXT_SLICE_MILLIS : SLICE_MILLIS;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        boolean navigated = false;
+        long remaining;
+        while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+            Map<String, Object> result;
+            try {
+                result = (Map<String, Object>) executor.executeAsyncScript(READY_SCRIPT,
+                        quietMillis, Math.min(remaining, maxSlice), token);
+            } catch (ScriptTimeoutException | JavascriptException e) {
+                // Only a document replaced while the script was pending is worth another check
+                if (isSameDocument(executor, token)) {
+                    throw e;
+                }
+                navigated = true;
+                continue;
+            } catch (WebDriverException e) {
+                System.err.println("Smart readiness unavailable, polling document.readyState: " + e.getMessage());
+                new WebDriverWait(driver, Duration.ofMillis(Math.max(remaining, 1))).until(webDriver ->
+                        "complete".equals(executor.executeScript("return document.readyState")));
+                return true;
+            }
+            
+            navigated |= Boolean.TRUE.equals(result.get("navigated"));
+            if (Boolean.TRUE.equals(result.get("ready"))) {
+                return navigated;
+            }
+        }
+        
+        throw new TimeoutException("Page not ready after " + timeout.toMillis() + " ms: requests in flight or DOM still changing");
+    }
+    
+    /**
+     * Checks if the page still shows the document a failed readiness script ran in
+     * @param executor The JavaScript executor of the driver
+     * @param token The token the check marked the document with
+     * @return true if the document did not change, false if the page navigated or is still loading
+     */
+    private static boolean isSameDocument(JavascriptExecutor executor, String token) {
+        try {
+            return Boolean.TRUE.equals(executor.executeScript(TOKEN_SCRIPT, token));
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Records the browser and driver processes of every session and reaps the ones left behind
+ * A session's processes are its browser, the browser's descendants and, without a shared
+ * driver service, the driver binary the session started. The browser is found from the session's
+ * capabilities, or as the new child of a driver service where command lines cannot be read. Once a session has been quit, any
+ * of them still running is killed at the next reap point (test, class or suite end) and
+ * reported as a leak of the test that last used the session
+ */
+public class ProcessTracker {
+    
+    private static final String SUITE_OWNER = "suite";
+    
+    private static final Map<WebDriver, TrackedSession> sessions = new ConcurrentHashMap<>();
+    private static final List<Leak> leaks = Collections.synchronizedList(new ArrayList<>());
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    
+    private ProcessTracker() {
+    }
+    
+    /**
+     * Checks if session processes are tracked and reaped
+     * @return true if the process tracker is enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isProcessTrackerEnabled();
+    }
+    
+    /**
+     * Records the processes of a new session
+     * @param driver The new WebDriver session
+     * @param browserType The type of browser
+     */
+    public static void register(WebDriver driver, String browserType) {
+        if (!isEnabled() || !(driver instanceof HasCapabilities)) {
+            return;
+        }
+        Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+        Set<ProcessHandle> processes = new LinkedHashSet<>();
+        boolean sharedService = DriverServiceManager.isEnabled() && DriverServiceManager.isSupported(browserType);
+        List<ProcessHandle> browsers = findBrowserProcesses(capabilities);
+        if (browsers.isEmpty()) {
+            // Command lines are not readable everywhere, e.g. on Windows
+            browsers = findUnclaimedBrowser(browserType);
+        }
+        if (browsers.isEmpty()) {
+            System.err.println("Could not identify the browser process of a " + browserType
+                    + " session; its leftover processes will not be reaped");
+        }
+        for (ProcessHandle browser : browsers) {
+            processes.add(browser);
+            processes.addAll(browser.descendants().collect(Collectors.toList()));
+            // A driver binary started for this session alone is a direct child of this JVM
+            if (!sharedService) {
+                browser.parent().filter(ProcessTracker::isChildOfThisProcess).ifPresent(processes::add);
+            }
+        }
+        String owner = currentTest.get();
+        sessions.put(driver, new TrackedSession(browserType, capabilities, processes, owner != null ? owner : SUITE_OWNER));
+    }
+    
+    /**
+     * Sets the test the current thread runs; sessions it uses are attributed to it
+     * @param testName The test as Class.method, or null when the test has ended
+     */
+    public static void setCurrentTest(String testName) {
+        if (testName == null) {
+            currentTest.remove();
+        } else {
+            currentTest.set(testName);
+        }
+    }
+    
+    /**
+     * Attributes a session to the test the current thread runs
+     * @param driver The WebDriver session the test uses
+     */
+    public static void claim(WebDriver driver) {
+        TrackedSession session = driver == null ? null : sessions.get(driver);
+        String owner = currentTest.get();
+        if (session != null && owner != null) {
+            session.owner = owner;
+        }
+    }
+    
+    /**
+     * Marks a session as quit; its processes are expected to exit from now on
+     * @param driver The WebDriver session that was quit
+     */
+    public static void closed(WebDriver driver) {
+        TrackedSession session = driver == null ? null : sessions.get(driver);
+        if (session != null) {
+            session.closedNanos = System.nanoTime();
+            session.closed = true;
+        }
+    }
+    
+    /**
+     * Kills processes still running of sessions quit at least process.tracker.grace.ms ago
+     * @return Number of processes killed
+     */
+    public static int reap() {
+        return reap(false);
+    }
+    
+    /**
+     * Kills processes still running of every tracked session, e.g. at suite end after all
+     * sessions were quit; sessions never quit are leaks as well
+     * @return Number of processes killed
+     */
+    public static int reapAll() {
+        return reap(true);
+    }
+    
+    /**
+     * Formats the processes killed by the reaper per test
+     * @return The leak report, or an empty string if no process leaked
+     */
+    public static String getLeakReport() {
+        List<Leak> found;
+        synchronized (leaks) {
+            found = new ArrayList<>(leaks);
+        }
+        if (found.isEmpty()) {
+            return "";
+        }
+        int processes = 0;
+        StringBuilder details = new StringBuilder();
+        for (Leak leak : found) {
+            processes += leak.processes.size();
+            details.append("  ").append(leak.owner).append(" (").append(leak.browserType).append(", ")
+                    .append(leak.closed ? "quit" : "never quit").append("): ")
+                    .append(String.join(", ", leak.processes)).append(System.lineSeparator());
+        }
+        return "Process leaks: " + processes + " processes left behind by " + found.size() + " sessions, killed:"
+                + System.lineSeparator() + details;
+    }
+    
+    /**
+     * Finds the running browser processes of a session from its capabilities: the process id
+     * Firefox reports, or the processes started with the user data directory Chrome and Edge report
+     * @param capabilities The capabilities of the session, may be null
+     * @return The browser processes still running, empty if they cannot be identified
+     */
+    static List<ProcessHandle> findBrowserProcesses(Capabilities capabilities) {
+        List<ProcessHandle> processes = new ArrayList<>();
+        if (capabilities == null) {
+            return processes;
+        }
+        Object processId = capabilities.getCapability("moz:processID");
+        if (processId instanceof Number) {
+            ProcessHandle.of(((Number) processId).longValue()).filter(ProcessHandle::isAlive).ifPresent(processes::add);
+            return processes;
+        }
+        String userDataDir = getUserDataDir(capabilities);
+        if (userDataDir == null) {
+            return processes;
+        }
+        String argument = "--user-data-dir=" + userDataDir;
+        ProcessHandle.allProcesses()
+                .filter(process -> process.info().commandLine().map(line -> line.contains(argument)).orElse(false))
+                .forEach(processes::add);
+        return processes;
+    }
+    
+    /**
+     * Finds the browser a driver service process of this JVM has just started for a new session
+     * Only a single browser child not yet recorded for another session is attributed; with several
+     * candidates, e.g. sessions started concurrently on a shared service, none is
+     * @param browserType The type of browser
+     * @return The browser process, empty if it cannot be identified unambiguously
+     */
+    static synchronized List<ProcessHandle> findUnclaimedBrowser(String browserType) {
+        String driverBinary = getDriverBinary(browserType);
+        if (driverBinary == null) {
+            return Collections.emptyList();
+        }
+        Set<ProcessHandle> claimed = new LinkedHashSet<>();
+        for (TrackedSession session : sessions.values()) {
+            claimed.addAll(session.processes);
+        }
+        List<ProcessHandle> candidates = ProcessHandle.current().children()
+                .filter(process -> process.info().command()
+                        .map(command -> Paths.get(command).getFileName().toString().startsWith(driverBinary))
+                        .orElse(false))
+                .flatMap(ProcessHandle::children)
+                .filter(process -> process.isAlive() && !claimed.contains(process))
+                .collect(Collectors.toList());
+        return candidates.size() == 1 ? candidates : Collections.emptyList();
+    }
+    
+    /**
+     * Kills processes together with their current descendants
+     * @param processes The processes to kill
+     * @return The killed processes
+     */
+    static List<ProcessHandle> killTrees(Collection<ProcessHandle> processes) {
+        Set<ProcessHandle> tree = new LinkedHashSet<>();
+        for (ProcessHandle process : processes) {
+            // Collect descendants first; they are re-parented once their parent dies
+            tree.addAll(process.descendants().collect(Collectors.toList()));
+            tree.add(process);
+        }
+        List<ProcessHandle> killed = new ArrayList<>();
+        for (ProcessHandle process : tree) {
+            if (process.isAlive() && process.destroyForcibly()) {
+                killed.add(process);
+            }
+        }
+        return killed;
+    }
+    
+    private static int reap(boolean all) {
+        long grace = TimeUnit.MILLISECONDS.toNanos(ConfigManager.getProcessTrackerGraceMillis());
+        int killed = 0;
+        for (Map.Entry<WebDriver, TrackedSession> entry : sessions.entrySet()) {
+            TrackedSession session = entry.getValue();
+            // A browser may still be exiting right after its quit; give it the grace period first
+            boolean due = session.closed && System.nanoTime() - session.closedNanos >= grace;
+            if ((all || due) && sessions.remove(entry.getKey(), session)) {
+                killed += session.reap(grace);
+            }
+        }
+        return killed;
+    }
+    
+    private static boolean isChildOfThisProcess(ProcessHandle process) {
+        return process.parent().map(ProcessHandle.current()::equals).orElse(false);
+    }
+    
+    private static String getUserDataDir(Capabilities capabilities) {
+        for (String vendor : new String[]{"chrome", "msedge"}) {
+            Object details = capabilities.getCapability(vendor);
+            if (details instanceof Map && ((Map<?, ?>) details).get("userDataDir") instanceof String) {
+                return (String) ((Map<?, ?>) details).get("userDataDir");
+            }
+        }
+        return null;
+    }
+    
+    private static String getDriverBinary(String browserType) {
+        switch (browserType.toLowerCase()) {
+            case "chrome":
+                return "chromedriver";
+            case "edge":
+                return "msedgedriver";
+            case "firefox":
+                return "geckodriver";
+            case "safari":
+                return "safaridriver";
+            default:
+                return null;
+        }
+    }
+    
+    private static String describe(ProcessHandle process) {
+        return process.pid() + " " + process.info().command().map(command -> Paths.get(command).getFileName().toString()).orElse("?");
+    }
+    
+    private static final class TrackedSession {
+        
+        private final String browserType;
+        private final Capabilities capabilities;
+        private final Set<ProcessHandle> processes;
+        private volatile String owner;
+        private volatile boolean closed;
+        private volatile long closedNanos;
+        
+        TrackedSession(String browserType, Capabilities capabilities, Set<ProcessHandle> processes, String owner) {
+            this.browserType = browserType;
+            this.capabilities = capabilities;
+            this.processes = processes;
+            this.owner = owner;
+        }
+        
+        /**
+         * Kills the recorded processes and browser processes found again from the capabilities,
+         * after waiting for them to exit for what remains of the grace period
+         * @param graceNanos The grace period after the quit
+         * @return Number of processes killed
+         */
+        int reap(long graceNanos) {
+            Set<ProcessHandle> alive = findAlive();
+            long remaining = closed ? graceNanos - (System.nanoTime() - closedNanos) : 0;
+            if (!alive.isEmpty() && remaining > 0) {
+                try {
+                    CompletableFuture.allOf(alive.stream().map(ProcessHandle::onExit).toArray(CompletableFuture[]::new))
+                            .get(remaining, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException | ExecutionException e) {
+                    // Still running after the grace period
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                alive = findAlive();
+            }
+            if (alive.isEmpty()) {
+                return 0;
+            }
+            List<String> descriptions = new ArrayList<>();
+            for (ProcessHandle process : alive) {
+                descriptions.add(describe(process));
+            }
+            List<ProcessHandle> killed = killTrees(alive);
+            leaks.add(new Leak(owner, browserType, closed, descriptions));
+            System.err.println("Killed " + killed.size() + " leftover " + browserType + " processes of " + owner);
+            return killed.size();
+        }
+        
+        private Set<ProcessHandle> findAlive() {
+            Set<ProcessHandle> alive = new LinkedHashSet<>();
+            for (ProcessHandle process : processes) {
+                // ProcessHandle compares start times, so a reused pid does not count as alive
+                if (process.isAlive()) {
+                    alive.add(process);
+                }
+            }
+            alive.addAll(findBrowserProcesses(capabilities));
+            return alive;
+        }
+    }
+    
+    private static final class Leak {
+        
+        private final String owner;
+        private final String browserType;
+        private final boolean closed;
+        private final List<String> processes;
+        
+        Leak(String owner, String browserType, boolean closed, List<String> processes) {
+            this.owner = owner;
+            this.browserType = browserType;
+            this.closed = closed;
+            this.processes = processes;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.automationframework.core;
+
+import com.automationframework.api.ApiBaseClass;
+import com.automationframework.utils.ConfigManager;
+import com.automationframework.utils.TestDataProvider;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-worker cache of an authenticated browser session
+ * Captures cookies, localStorage and sessionStorage once after login and injects
+ * them into later drivers so tests can open the dashboard without the login form
+ */
+public class SessionStateCache {
+    
+    private static final String CAPTURE_STORAGE_SCRIPT =
+            "function dump(s) { var o = {}; try { for (var i = 0; i < s.length; i++) { var k = s.key(i); o[k] = s.getItem(k); } } catch (e) {} return o; }"
+            + "return { local: dump(window.localStorage), session: dump(window.sessionStorage) };";
+    
+    private static final String INJECT_STORAGE_SCRIPT =
+            "var local = arguments[0], session = arguments[1];"
+            + "for (var k in local) { window.localStorage.setItem(k, local[k]); }"
+            + "for (var k in session) { window.sessionStorage.setItem(k, session[k]); }";
+    
+    private static final ThreadLocal<SessionState> workerState = new ThreadLocal<>();
+    
+    private SessionStateCache() {
+    }
+    
+    /**
+     * Immutable snapshot of an authenticated session
+     * Only the revoked flag changes, once the application has rejected the session
+     */
+    public static final class SessionState {
+        
+        private final String origin;
+        private final Set<Cookie> cookies;
+        private final Map<String, String> localStorage;
+        private final Map<String, String> sessionStorage;
+        private final long capturedAt;
+        private volatile boolean revoked;
+        
+        SessionState(String origin, Set<Cookie> cookies, Map<String, String> localStorage,
+                     Map<String, String> sessionStorage) {
+            this.origin = origin;
+            this.cookies = Collections.unmodifiableSet(new HashSet<>(cookies));
+            this.localStorage = Collections.unmodifiableMap(new HashMap<>(localStorage));
+            this.sessionStorage = Collections.unmodifiableMap(new HashMap<>(sessionStorage));
+            this.capturedAt = System.currentTimeMillis();
+        }
+        
+        /**
+         * Gets the origin the session was captured on
+         * @return The origin as scheme://host[:port]
+         */
+        public String getOrigin() {
+            return origin;
+        }
+        
+        /**
+         * Gets the captured cookies
+         * @return Unmodifiable set of cookies
+         */
+        public Set<Cookie> getCookies() {
+            return cookies;
+        }
+        
+        /**
+         * Gets the captured localStorage entries
+         * @return Unmodifiable map of localStorage entries
+         */
+        public Map<String, String> getLocalStorage() {
+            return localStorage;
+        }
+        
+        /**
+         * Gets the captured sessionStorage entries
+         * @return Unmodifiable map of sessionStorage entries
+         */
+        public Map<String, String> getSessionStorage() {
+            return sessionStorage;
+        }
+        
+        /**
+         * Checks if the snapshot is older than the given time to live
+         * @param ttlMillis Time to live in milliseconds
+         * @return true if the snapshot has expired, false otherwise
+         */
+        public boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - capturedAt > ttlMillis;
+        }
+        
+        /**
+         * Checks if the application has rejected the session since it was captured
+         * @return true if the session has been revoked, false otherwise
+         */
+        public boolean isRevoked() {
+            return revoked;
+        }
+        
+        void revoke() {
+            revoked = true;
+        }
+    }
+    
+    /**
+     * Checks if session state caching is enabled
+     * @return true if cached sessions should be injected, false otherwise
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.isSessionCacheEnabled();
+    }
+    
+    /**
+     * Gets the cached session of the current worker if it is still valid
+     * @return The cached session state, or null if absent, expired or revoked
+     */
+    public static SessionState getCachedState() {
+        SessionState state = workerState.get();
+        long ttlMillis = TimeUnit.SECONDS.toMillis(ConfigManager.getSessionCacheTtl());
+        if (state != null && (state.isRevoked() || state.isExpired(ttlMillis))) {
+            invalidate();
+            return null;
+        }
+        return state;
+    }
+    
+    /**
+     * Checks if restore() can authenticate the current worker without the login form
+     * @return true if a session is cached or can be obtained through the API, false otherwise
+     */
+    public static boolean hasRestorableSession() {
+        return isEnabled() && (getCachedState() != null
+                || "api".equalsIgnoreCase(ConfigManager.getSessionCacheLoginSource()));
+    }
+    
+    /**
+     * Captures the authenticated session of a logged-in driver for the current worker
+     * @param driver The WebDriver instance that has just logged in
+     * @return The captured session state, or null if capturing failed
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionState capture(WebDriver driver) {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver)
+                    .executeScript(CAPTURE_STORAGE_SCRIPT);
+            SessionState state = new SessionState(
+                    getOrigin(driver.getCurrentUrl()),
+                    driver.manage().getCookies(),
+                    toStringMap((Map<String, Object>) storage.get("local")),
+                    toStringMap((Map<String, Object>) storage.get("session")));
+            workerState.set(state);
+            return state;
+        } catch (Exception e) {
+            System.err.println("Failed to capture session state: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Logs in through the API and caches the resulting token as session state
+     * The token is stored under the configured localStorage key and, if configured, a cookie
+     * @param username The username for login
+     * @param password The password for login
+     * @return The cached session state, or null if the API login failed
+     */
+    public static SessionState captureFromApi(String username, String password) {
+        ApiBaseClass api = new ApiBaseClass();
+        if (!api.performLogin(username, password)) {
+            invalidate();
+            return null;
+        }
+        
+        Map<String, String> localStorage = new HashMap<>();
+        localStorage.put(ConfigManager.getSessionTokenStorageKey(), api.getAuthToken());
+        
+        Set<Cookie> cookies = new HashSet<>();
+        String cookieName = ConfigManager.getSessionTokenCookieName();
+        if (cookieName != null && !cookieName.isEmpty()) {
+            cookies.add(new Cookie(cookieName, api.getAuthToken(), "/"));
+        }
+        
+        SessionState state = new SessionState(getOrigin(ConfigManager.getDashboardUrl()), cookies,
+                localStorage, Collections.<String, String>emptyMap());
+        workerState.set(state);
+        return state;
+    }
+    
+    /**
+     * Injects the cached session into the driver and opens the dashboard directly
+     * Logs in through the API first when that login source is configured and nothing is cached
+     * @param driver The WebDriver instance to authenticate
+     * @return true if the driver is on the dashboard with a valid session, false if a UI login is needed
+     */
+    public static boolean restore(WebDriver driver) {
+        if (!isEnabled()) {
+            return false;
+        }
+        
+        SessionState state = getCachedState();
+        if (state == null && "api".equalsIgnoreCase(ConfigManager.getSessionCacheLoginSource())) {
+            state = captureFromApi(TestDataProvider.VALID_USERNAME, TestDataProvider.VALID_PASSWORD);
+        }
+        if (state == null) {
+            return false;
+        }
+        
+        try {
+            // Cookies and storage can only be written for the document's own origin
+            driver.get(state.getOrigin() + ConfigManager.getSessionBootstrapPath());
+            Date now = new Date();
+            for (Cookie cookie : state.getCookies()) {
+                if (cookie.getExpiry() == null || cookie.getExpiry().after(now)) {
+                    driver.manage().addCookie(cookie);
+                }
+            }
+            ((JavascriptExecutor) driver).executeScript(INJECT_STORAGE_SCRIPT,
+                    state.getLocalStorage(), state.getSessionStorage());
+            
+            driver.get(ConfigManager.getDashboardUrl());
+        } catch (Exception e) {
+            System.err.println("Failed to restore session state: " + e.getMessage());
+            invalidate();
+            return false;
+        }
+        
+        return verify(driver);
+    }
+    
+    /**
+     * Verifies the driver still holds an authenticated session
+     * Invalidates the cache when the application has redirected to the login page
+     * @param driver The WebDriver instance to check
+     * @return true if the session is still valid, false otherwise
+     */
+    public static boolean verify(WebDriver driver) {
+        if (isLoginRedirect(driver)) {
+            invalidate();
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Invalidates the cached session when a response reports the session as unauthorized
+     * @param statusCode The HTTP status code of the response
+     */
+    public static void invalidateIfUnauthorized(int statusCode) {
+        invalidateIfUnauthorized(workerState.get(), statusCode);
+    }
+    
+    /**
+     * Invalidates a cached session when a response reports it as unauthorized
+     * May be called from any thread, e.g. when an asynchronous response completes
+     * @param state The session that was cached when the request was sent, or null
+     * @param statusCode The HTTP status code of the response
+     */
+    public static void invalidateIfUnauthorized(SessionState state, int statusCode) {
+        if (state != null && statusCode == 401) {
+            state.revoke();
+        }
+    }
+    
+    /**
+     * Drops the cached session of the current worker
+     */
+    public static void invalidate() {
+        workerState.remove();
+    }
+    
+    /**
+     * Checks if the driver has been redirected to the login page
+     * @param driver The WebDriver instance to check
+     * @return true if the current page is the login page, false otherwise
+     */
+    public static boolean isLoginRedirect(WebDriver driver) {
+        try {
+            String currentUrl = driver.getCurrentUrl();
+            String loginUrl = ConfigManager.getLoginUrl();
+            return currentUrl != null && ((loginUrl != null && currentUrl.startsWith(loginUrl))
+                    || getPath(currentUrl).endsWith("/login"));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+    
+    private static String getOrigin(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+    
+    private static String getPath(String url) {
+        try {
+            String path = URI.create(url).getPath();
+            return path == null ? "" : path;
+        } catch (Exception e) {
+            return "";
+        }
+    }
+    
+    private static Map<String, String> toStringMap(Map<String, Object> values) {
+        Map<String, String> result = new HashMap<>();
+        if (values != null) {
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                result.put(entry.getKey(), String.valueOf(entry.getValue()));
+            }
+        }
+        return result;
+    }
+}
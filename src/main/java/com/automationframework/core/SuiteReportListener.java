@@ -0,0 +1,68 @@
+package com.automationframework.core;
+
+import com.automationframework.api.ApiConnectionPool;
+import com.automationframework.api.AsyncApiClient;
+import com.automationframework.utils.ConfigManager;
+import com.automationframework.utils.TestFileGenerator;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Collects the framework statistics of a suite into one report
+ * Runs after the suite's @AfterSuite methods, so sessions have been quit and leftover processes
+ * reaped. The report is written to framework-report.txt in the suite's output directory;
+ * only process leaks, which are errors, also go to System.err
+ */
+public class SuiteReportListener implements ISuiteListener {
+    
+    public static final String REPORT_FILE = "framework-report.txt";
+    
+    @Override
+    public void onFinish(ISuite suite) {
+        StringBuilder report = new StringBuilder("Framework report: ").append(suite.getName())
+                .append(System.lineSeparator());
+        if (ElementCache.isEnabled()) {
+            appendLine(report, ElementCache.getSummary());
+        }
+        if (LazyDriver.isEnabled()) {
+            appendLine(report, LazyDriver.getSummary());
+        }
+        appendLine(report, DriverReaper.getSummary());
+        appendLine(report, TestFileGenerator.getSummary());
+        appendLine(report, UploadMonitor.getSummary());
+        for (UploadMonitor.UploadResult upload : UploadMonitor.getResults()) {
+            appendLine(report, "  Upload " + upload);
+        }
+        appendLine(report, ApiConnectionPool.getSummary());
+        appendLine(report, AsyncApiClient.getSummary());
+        if (LocatorProfiler.isEnabled()) {
+            report.append(LocatorProfiler.getReport(ConfigManager.getLocatorProfilerTop()));
+            LocatorProfiler.writeReport();
+        }
+        String leaks = ProcessTracker.getLeakReport();
+        if (!leaks.isEmpty()) {
+            report.append(leaks);
+            System.err.println(leaks);
+        }
+        
+        Path file = Paths.get(suite.getOutputDirectory(), REPORT_FILE);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, report.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Failed to write framework report to " + file + ": " + e.getMessage());
+        }
+    }
+    
+    private static void appendLine(StringBuilder report, String line) {
+        if (line != null && !line.isEmpty()) {
+            report.append(line).append(System.lineSeparator());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.automationframework.core;
+
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.Collections;
+
+/**
+ * Enters text in one operation instead of one key event per character
+ * On Chromium the field is focused and its content selected in the page, then the text replaces
+ * the selection through CDP Input.insertText, which fires trusted beforeinput and input events
+ * like an IME commit. Other browsers set the value through the native setter and fire input and
+ * change. Fields that depend on individual keystrokes, such as autocompletes, comboboxes and
+ * inline key handlers, and texts with special keys are typed instead
+ */
+public class TextEntry {
+    
+    public static final String TYPE = "type";
+    public static final String INSERT = "insert";
+    public static final String AUTO = "auto";
+    
+    private static final String INSERTED = "ok";
+    private static final String READY = "ready";
+    
+    // Keys.ENTER, Keys.TAB and the other WebDriver keys are mapped to this private use range
+    private static final char FIRST_KEY = '\uE000';
+    private static final char LAST_KEY = '\uE05F';
+    
+    // Shared with the batched form fill in BasePage so both agree on which fields take a value directly
+    static final String FIELD_FUNCTIONS =
+            "function isTextField(e) {"
+            + "  var tag = e.tagName.toLowerCase(), type = (e.type || 'text').toLowerCase();"
+            + "  return tag === 'textarea' || (tag === 'input' && /^(text|search|email|url|tel|password|number)$/.test(type));"
+            + "}"
+            // Autocompletes and fields with key handlers react to keystrokes, not to a set value
+            + "function isKeyed(e) {"
+            + "  return e.getAttribute('role') === 'combobox' || e.hasAttribute('list')"
+            + "    || (e.getAttribute('aria-autocomplete') || 'none') !== 'none' || !!(e.onkeydown || e.onkeypress || e.onkeyup);"
+            + "}";
+    
+    private static final String PREPARE_SCRIPT =
+            FIELD_FUNCTIONS
+            + "var e = arguments[0], text = arguments[1], cdp = arguments[2], force = arguments[3];"
+            + "function read(e) { return e.isContentEditable ? e.textContent : e.value; }"
+            + "if (!e || e.disabled || e.readOnly) { return 'keys'; }"
+            + "var tag = e.tagName.toLowerCase();"
+            + "if (!isTextField(e) && !e.isContentEditable) { return 'keys'; }"
+            // A newline typed into an input is an Enter key that may submit the form
+            + "if (tag === 'input' && /[\\r\\n]/.test(text)) { return 'keys'; }"
+            + "if (e.maxLength > 0 && text.length > e.maxLength) { return 'keys'; }"
+            + "if (isKeyed(e) && !force) { return 'keys'; }"
+            + "e.focus();"
+            + "if (document.activeElement !== e && !e.contains(document.activeElement)) { return 'keys'; }"
+            + "if (cdp) {"
+            // Select the current content so the inserted text replaces it, like clear() followed by typing
+            + "  if (e.isContentEditable) {"
+            + "    var range = document.createRange(), selection = window.getSelection();"
+            + "    range.selectNodeContents(e); selection.removeAllRanges(); selection.addRange(range);"
+            + "  } else {"
+            + "    try { e.select(); } catch (err) { e.value = ''; }"
+            + "  }"
+            + "  return 'ready';"
+            + "}"
+            + "if (e.isContentEditable) { e.textContent = text; }"
+            + "else {"
+            // The prototype setter bypasses per-instance value trackers so frameworks see the change
+            + "  var proto = tag === 'input' ? HTMLInputElement.prototype : HTMLTextAreaElement.prototype;"
+            + "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(e, text);"
+            + "}"
+            + "e.dispatchEvent(new Event('input', { bubbles: true }));"
+            + "e.dispatchEvent(new Event('change', { bubbles: true }));"
+            + "return read(e) === text ? 'ok' : 'keys';";
+    
+    private static final String VERIFY_SCRIPT =
+            "var e = arguments[0];"
+            + "return (e.isContentEditable ? e.textContent : e.value) === arguments[1];";
+    
+    private TextEntry() {
+    }
+    
+    /**
+     * Gets the configured text entry mode
+     * @return type, insert or auto (insert long texts into fields that do not need keystrokes)
+     */
+    public static String getDefaultMode() {
+        return ConfigManager.getTextEntryMode().toLowerCase();
+    }
+    
+    /**
+     * Replaces the content of a field with a text in one operation where the mode allows it
+     * @param driver The WebDriver instance
+     * @param element The visible field
+     * @param text The text to enter
+     * @param mode type, insert or auto
+     * @return true if the field now holds the text, false if the caller has to clear and type it
+     */
+    public static boolean insert(WebDriver driver, WebElement element, String text, String mode) {
+        if (TYPE.equals(mode) || hasSpecialKeys(text)
+                || (!INSERT.equals(mode) && text.length() < ConfigManager.getTextEntryInsertMinLength())) {
+            return false;
+        }
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        boolean cdp = driver instanceof HasCdp;
+        try {
+            Object status = executor.executeScript(PREPARE_SCRIPT, element, text, cdp, INSERT.equals(mode));
+            if (INSERTED.equals(status)) {
+                return true;
+            }
+            if (!READY.equals(status)) {
+                return false;
+            }
+            ((HasCdp) driver).executeCdpCommand("Input.insertText", Collections.singletonMap("text", text));
+            // Input masks and formatters may rewrite inserted text; typing reproduces their keystroke behavior
+            return Boolean.TRUE.equals(executor.executeScript(VERIFY_SCRIPT, element, text));
+        } catch (WebDriverException e) {
+            System.err.println("Text insertion failed, typing instead: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    private static boolean hasSpecialKeys(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= FIRST_KEY && c <= LAST_KEY) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
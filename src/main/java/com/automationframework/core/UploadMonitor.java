@@ -0,0 +1,309 @@
+package com.automationframework.core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Detects file upload completion in the page and records upload throughput
+ * Before the file is chosen the page is armed: XHR and fetch requests with a FormData or Blob
+ * body are timed and their upload progress is recorded. The completion wait is an async script
+ * that re-evaluates the progress, success and error elements whenever the DOM changes or an
+ * upload request ends, so it returns as soon as the upload settles instead of on a poll interval
+ */
+public class UploadMonitor {
+    
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String TIMEOUT = "timeout";
+    
+    private static final String PENDING = "pending";
+    
+    // Async scripts must return before the driver's script timeout, so long waits run in slices
+    private static final long SLICE_MILLIS = 5000;
+    
+    private static final String ARM_SCRIPT =
+            "(function () {"
+            + "  var u = window.__afUpload;"
+            + "  if (!u) {"
+            + "    u = window.__afUpload = { requests: [], changed: null };"
+            + "    var isUpload = function (body) {"
+            + "      return !!body && ((window.FormData && body instanceof FormData) || (window.Blob && body instanceof Blob));"
+            + "    };"
+            + "    var settle = function (r, status) {"
+            + "      r.end = performance.now(); r.status = status;"
+            + "      if (u.changed) { u.changed(); }"
+            + "    };"
+            + "    var send = XMLHttpRequest.prototype.send;"
+            + "    XMLHttpRequest.prototype.send = function (body) {"
+            + "      if (isUpload(body)) {"
+            + "        var xhr = this, r = { start: performance.now(), end: 0, loaded: 0, total: body.size || 0, status: 0 };"
+            + "        u.requests.push(r);"
+            + "        if (xhr.upload) {"
+            + "          xhr.upload.addEventListener('progress', function (e) {"
+            + "            r.loaded = e.loaded; if (e.lengthComputable) { r.total = e.total; }"
+            + "          });"
+            + "        }"
+            + "        xhr.addEventListener('loadend', function () { settle(r, xhr.status); });"
+            + "      }"
+            + "      return send.apply(this, arguments);"
+            + "    };"
+            + "    if (window.fetch) {"
+            + "      var fetch = window.fetch;"
+            + "      window.fetch = function (input, init) {"
+            + "        if (!init || !isUpload(init.body)) { return fetch.apply(this, arguments); }"
+            + "        var r = { start: performance.now(), end: 0, loaded: 0, total: init.body.size || 0, status: 0 };"
+            + "        u.requests.push(r);"
+            + "        var p = fetch.apply(this, arguments);"
+            + "        p.then(function (response) { r.loaded = r.total; settle(r, response.status); },"
+            + "          function () { settle(r, 0); });"
+            + "        return p;"
+            + "      };"
+            + "    }"
+            + "  }"
+            // Only requests started after arming belong to this upload
+            + "  u.requests = [];"
+            + "})();";
+    
+    private static final String AWAIT_SCRIPT =
+            "var targets = [arguments[0], arguments[1], arguments[2]], slice = arguments[3],"
+            + " done = arguments[arguments.length - 1];"
+            + ElementWaiter.LOCATE_FUNCTION
+            + ElementWaiter.VISIBLE_FUNCTION
+            + "function resolve(t) {"
+            + "  try { return !t ? null : t.nodeType === 1 ? t : locateTarget(t); } catch (e) { return null; }"
+            + "}"
+            + "var u = window.__afUpload || { requests: [] };"
+            + "function pending() {"
+            + "  return u.requests.some(function (r) { return !r.end; });"
+            + "}"
+            // An aborted request (status 0) or an HTTP error fails the upload even if the page shows no error
+            + "function failed() {"
+            + "  return u.requests.some(function (r) { return r.end && (r.status === 0 || r.status >= 400); });"
+            + "}"
+            + "function summary(status) {"
+            + "  var bytes = 0, start = 0, end = 0;"
+            + "  u.requests.forEach(function (r) {"
+            + "    bytes += r.total || r.loaded;"
+            + "    if (!start || r.start < start) { start = r.start; }"
+            + "    if (r.end > end) { end = r.end; }"
+            + "  });"
+            + "  return { status: status, bytes: bytes, millis: start && end ? Math.round(end - start) : -1 };"
+            + "}"
+            + "var finished = false, observer, timer;"
+            + "function finish(result) {"
+            + "  if (finished) { return; }"
+            + "  finished = true; observer.disconnect(); clearTimeout(timer); u.changed = null;"
+            + "  done(result);"
+            + "}"
+            + "function check() {"
+            + "  if (finished) { return; }"
+            + "  var progress = visible(resolve(targets[0])), success = visible(resolve(targets[1])),"
+            + "    error = visible(resolve(targets[2]));"
+            + "  if (error || failed()) { finish(summary('error')); }"
+            + "  else if (success && !progress && !pending()) { finish(summary('success')); }"
+            + "}"
+            + "observer = new MutationObserver(check);"
+            + "observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });"
+            + "u.changed = check;"
+            + "timer = setTimeout(function () { finish(summary('pending')); }, slice);"
+            + "check();";
+    
+    private static final List<UploadResult> results = Collections.synchronizedList(new ArrayList<>());
+    
+    private UploadMonitor() {
+    }
+    
+    /**
+     * Starts tracking upload requests of the page; call before choosing the file
+     * @param executor The JavaScript executor of the driver
+     * @return true if the page is armed, false if upload requests cannot be tracked
+     */
+    public static boolean arm(JavascriptExecutor executor) {
+        try {
+            executor.executeScript(ARM_SCRIPT);
+            return true;
+        } catch (WebDriverException e) {
+            System.err.println("Upload request tracking unavailable: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Waits until the upload succeeds or fails and records its throughput
+     * @param executor The JavaScript executor of the driver
+     * @param progress The progress element or its in-page locator map, may be null
+     * @param success The success element or its in-page locator map, may be null
+     * @param error The error element or its in-page locator map, may be null
+     * @param timeout The maximum time to wait
+     * @param filePath The uploaded file, used for its size
+     * @param startNanos System.nanoTime() when the file was chosen
+     * @return The outcome with duration and bytes per second
+     * @throws WebDriverException if the script cannot run
+     */
+    @SuppressWarnings("unchecked")
+    public static UploadResult await(JavascriptExecutor executor, Object progress, Object success, Object error,
+            Duration timeout, String filePath, long startNanos) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Map<String, Object> result;
+        do {
+            long remaining = Math.max(1, (deadline - System.nanoTime()) / 1_000_000);
+            result = (Map<String, Object>) executor.executeAsyncScript(AWAIT_SCRIPT, progress, success, error,
+                    Math.min(SLICE_MILLIS, remaining));
+        } while (PENDING.equals(result.get("status")) && System.nanoTime() < deadline);
+        LocatorProfiler.collectInPage(executor);
+        
+        String status = PENDING.equals(result.get("status")) ? TIMEOUT : String.valueOf(result.get("status"));
+        long transferMillis = result.get("millis") instanceof Number ? ((Number) result.get("millis")).longValue() : -1;
+        long pageBytes = result.get("bytes") instanceof Number ? ((Number) result.get("bytes")).longValue() : 0;
+        return record(filePath, startNanos, status, transferMillis, pageBytes);
+    }
+    
+    /**
+     * Records an upload whose outcome was determined without the in-page monitor
+     * @param filePath The uploaded file, used for its size
+     * @param startNanos System.nanoTime() when the file was chosen
+     * @param status success, error or timeout
+     * @return The recorded outcome
+     */
+    public static UploadResult record(String filePath, long startNanos, String status) {
+        return record(filePath, startNanos, status, -1, 0);
+    }
+    
+    private static UploadResult record(String filePath, long startNanos, String status, long transferMillis, long pageBytes) {
+        long durationMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        long bytes = getFileSize(filePath);
+        UploadResult result = new UploadResult(filePath == null ? "" : Paths.get(filePath).getFileName().toString(),
+                bytes >= 0 ? bytes : pageBytes, durationMillis, transferMillis, status);
+        results.add(result);
+        return result;
+    }
+    
+    private static long getFileSize(String filePath) {
+        if (filePath == null) {
+            return -1;
+        }
+        try {
+            Path path = Paths.get(filePath);
+            return Files.isRegularFile(path) ? Files.size(path) : -1;
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+    
+    /**
+     * Gets all uploads recorded in this run
+     * @return The recorded uploads in order
+     */
+    public static List<UploadResult> getResults() {
+        synchronized (results) {
+            return new ArrayList<>(results);
+        }
+    }
+    
+    /**
+     * Formats the recorded uploads for logging
+     * @return Count, bytes and average throughput of the recorded uploads, or an empty string if there are none
+     */
+    public static String getSummary() {
+        List<UploadResult> uploads = getResults();
+        if (uploads.isEmpty()) {
+            return "";
+        }
+        long bytes = 0;
+        long millis = 0;
+        int successful = 0;
+        for (UploadResult upload : uploads) {
+            bytes += upload.getBytes();
+            millis += upload.getEffectiveMillis();
+            successful += upload.isSuccessful() ? 1 : 0;
+        }
+        return "Uploads: " + uploads.size() + " (" + successful + " successful), " + bytes + " bytes, "
+                + UploadResult.formatRate(millis > 0 ? bytes * 1000.0 / millis : 0) + " average";
+    }
+    
+    /**
+     * Outcome and throughput of one upload
+     */
+    public static final class UploadResult {
+        
+        private final String fileName;
+        private final long bytes;
+        private final long durationMillis;
+        private final long transferMillis;
+        private final String status;
+        
+        UploadResult(String fileName, long bytes, long durationMillis, long transferMillis, String status) {
+            this.fileName = fileName;
+            this.bytes = bytes;
+            this.durationMillis = durationMillis;
+            this.transferMillis = transferMillis;
+            this.status = status;
+        }
+        
+        public String getFileName() {
+            return fileName;
+        }
+        
+        public long getBytes() {
+            return bytes;
+        }
+        
+        /**
+         * Gets the time from choosing the file until the page showed the outcome
+         * @return The duration in milliseconds
+         */
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+        
+        /**
+         * Gets the time the upload requests took in the page
+         * @return The transfer time in milliseconds, or -1 if no upload request was observed
+         */
+        public long getTransferMillis() {
+            return transferMillis;
+        }
+        
+        public String getStatus() {
+            return status;
+        }
+        
+        public boolean isSuccessful() {
+            return SUCCESS.equals(status);
+        }
+        
+        /**
+         * Gets the throughput, based on the request time when it was observed
+         * @return Bytes per second
+         */
+        public double getBytesPerSecond() {
+            long millis = getEffectiveMillis();
+            return millis > 0 ? bytes * 1000.0 / millis : 0;
+        }
+        
+        private long getEffectiveMillis() {
+            return transferMillis > 0 ? transferMillis : durationMillis;
+        }
+        
+        private static String formatRate(double bytesPerSecond) {
+            return bytesPerSecond >= 1024 * 1024 ? String.format("%.1f MB/s", bytesPerSecond / (1024 * 1024))
+                    : String.format("%.1f KB/s", bytesPerSecond / 1024);
+        }
+        
+        @Override
+        public String toString() {
+            return fileName + ": " + status + ", " + bytes + " bytes in " + durationMillis + " ms"
+                    + (transferMillis >= 0 ? " (transfer " + transferMillis + " ms)" : "") + ", " + formatRate(getBytesPerSecond());
+        }
+    }
+}
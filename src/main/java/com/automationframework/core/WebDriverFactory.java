@@ -1,9 +1,18 @@
 package com.automationframework.core;
 
 
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.Network;
+import org.openqa.selenium.bidi.network.AddInterceptParameters;
+import org.openqa.selenium.bidi.network.ContinueRequestParameters;
+import org.openqa.selenium.bidi.network.InterceptPhase;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.chromium.HasCdp;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
@@ -11,6 +20,13 @@ import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
 /**
  * Factory class for creating and managing WebDriver instances
  * Follows Factory Pattern for driver management
@@ -22,36 +38,78 @@ public class WebDriverFactory {
     private static final String EDGE = "edge";
     private static final String SAFARI = "safari";
     
+    public static final String DEFAULT_PROFILE = "default";
+    public static final String PERFORMANCE_PROFILE = "performance";
+    
     /**
      * Creates a WebDriver instance based on the specified browser type
+     * Honors the configured browser profile, headless mode and window settings
+     * Chrome, Firefox and Edge sessions share one driver service per browser type when enabled
      * @param browserType The type of browser to create
      * @return WebDriver instance
      */
     public static WebDriver createDriver(String browserType) {
+        return createDriver(browserType, false);
+    }
+    
+    /**
+     * Creates a WebDriver instance with a WebDriver BiDi connection
+     * Required for browser level features such as isolated user contexts
+     * @param browserType The type of browser to create
+     * @return WebDriver instance with BiDi enabled
+     */
+    public static WebDriver createBiDiDriver(String browserType) {
+        return createDriver(browserType, true);
+    }
+    
+    /**
+     * Creates a WebDriver instance based on the specified browser type
+     * @param browserType The type of browser to create
+     * @param enableBiDi Whether to open a WebDriver BiDi connection
+     * @return WebDriver instance
+     */
+    private static WebDriver createDriver(String browserType, boolean enableBiDi) {
         WebDriver driver = null;
+        boolean performance = isPerformanceProfile();
         
         switch (browserType.toLowerCase()) {
             case CHROME:
                 ChromeOptions chromeOptions = new ChromeOptions();
-                chromeOptions.addArguments("--start-maximized");
-                chromeOptions.addArguments("--disable-notifications");
-                chromeOptions.addArguments("--disable-popup-blocking");
-                driver = new ChromeDriver(chromeOptions);
+                configureChromiumOptions(chromeOptions, performance);
+                if (enableBiDi) {
+                    chromeOptions.enableBiDi();
+                }
+                driver = DriverServiceManager.isEnabled()
+                        ? DriverServiceManager.createSession(browserType, chromeOptions)
+                        : new ChromeDriver(chromeOptions);
                 break;
                 
             case FIREFOX:
                 FirefoxOptions firefoxOptions = new FirefoxOptions();
-                firefoxOptions.addArguments("--start-maximized");
-                driver = new FirefoxDriver(firefoxOptions);
+                configureFirefoxOptions(firefoxOptions, performance);
+                if (enableBiDi) {
+                    firefoxOptions.enableBiDi();
+                }
+                driver = DriverServiceManager.isEnabled()
+                        ? DriverServiceManager.createSession(browserType, firefoxOptions)
+                        : new FirefoxDriver(firefoxOptions);
                 break;
                 
             case EDGE:
                 EdgeOptions edgeOptions = new EdgeOptions();
-                edgeOptions.addArguments("--start-maximized");
-                driver = new EdgeDriver(edgeOptions);
+                configureChromiumOptions(edgeOptions, performance);
+                if (enableBiDi) {
+                    edgeOptions.enableBiDi();
+                }
+                driver = DriverServiceManager.isEnabled()
+                        ? DriverServiceManager.createSession(browserType, edgeOptions)
+                        : new EdgeDriver(edgeOptions);
                 break;
                 
             case SAFARI:
+                if (enableBiDi) {
+                    throw new UnsupportedOperationException("WebDriver BiDi is not supported on Safari");
+                }
                 SafariOptions safariOptions = new SafariOptions();
                 driver = new SafariDriver(safariOptions);
                 break;
@@ -60,13 +118,198 @@ public class WebDriverFactory {
                 throw new IllegalArgumentException("Unsupported browser type: " + browserType);
         }
         
-        // Common driver configurations
-        driver.manage().window().maximize();
-        driver.manage().deleteAllCookies();
+        // Firefox and Safari have no reliable maximize flag, so fall back to the window API
+        if (!performance && !ConfigManager.isHeadlessMode() && ConfigManager.shouldMaximizeBrowser()
+                && (FIREFOX.equalsIgnoreCase(browserType) || SAFARI.equalsIgnoreCase(browserType))) {
+            driver.manage().window().maximize();
+        }
+        
+        if (performance) {
+            blockUrls(driver, ConfigManager.getBlockedUrlPatterns());
+        }
+        
+        PageReadiness.install(driver);
+        ProcessTracker.register(driver, browserType);
         
         return driver;
     }
     
+    /**
+     * Gets the key identifying drivers that share the same browser type and options
+     * Sessions with the same key are interchangeable and can be pooled together
+     * @param browserType The type of browser
+     * @return The driver key
+     */
+    public static String getDriverKey(String browserType) {
+        boolean headless = isPerformanceProfile() || ConfigManager.isHeadlessMode();
+        return browserType.toLowerCase() + ":" + ConfigManager.getBrowserProfile().toLowerCase()
+                + ":" + (headless ? "headless" : "headed");
+    }
+    
+    /**
+     * Gets the driver class whose interfaces sessions of a browser type provide
+     * @param browserType The type of browser
+     * @return The local driver class of the browser type
+     * @throws IllegalArgumentException if the browser type is not supported
+     */
+    public static Class<? extends WebDriver> getDriverClass(String browserType) {
+        switch (browserType.toLowerCase()) {
+            case CHROME:
+                return ChromeDriver.class;
+            case FIREFOX:
+                return FirefoxDriver.class;
+            case EDGE:
+                return EdgeDriver.class;
+            case SAFARI:
+                return SafariDriver.class;
+            default:
+                throw new IllegalArgumentException("Unsupported browser type: " + browserType);
+        }
+    }
+    
+    /**
+     * Checks if the lean performance profile is selected
+     * @return true if the performance profile is active, false otherwise
+     */
+    public static boolean isPerformanceProfile() {
+        return PERFORMANCE_PROFILE.equalsIgnoreCase(ConfigManager.getBrowserProfile());
+    }
+    
+    /**
+     * Applies common and profile specific options to Chrome and Edge
+     * @param options The Chromium based browser options
+     * @param performance Whether the performance profile is active
+     */
+    private static void configureChromiumOptions(ChromiumOptions<?> options, boolean performance) {
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-popup-blocking");
+        
+        if (performance || ConfigManager.isHeadlessMode()) {
+            options.addArguments("--headless=new");
+            options.addArguments("--window-size=" + ConfigManager.getBrowserWindowSize());
+        } else if (ConfigManager.shouldMaximizeBrowser()) {
+            options.addArguments("--start-maximized");
+        }
+        
+        if (performance) {
+            options.addArguments("--disable-gpu");
+            options.addArguments("--disable-extensions");
+            options.addArguments("--disable-background-networking");
+            options.addArguments("--disable-background-timer-throttling");
+            options.addArguments("--disable-renderer-backgrounding");
+            options.addArguments("--disable-default-apps");
+            options.addArguments("--disable-sync");
+            options.addArguments("--no-first-run");
+            options.setPageLoadStrategy(getPageLoadStrategy());
+        }
+    }
+    
+    /**
+     * Applies common and profile specific options to Firefox
+     * @param options The Firefox options
+     * @param performance Whether the performance profile is active
+     */
+    private static void configureFirefoxOptions(FirefoxOptions options, boolean performance) {
+        if (performance || ConfigManager.isHeadlessMode()) {
+            String[] size = ConfigManager.getBrowserWindowSize().split(",");
+            options.addArguments("-headless");
+            options.addArguments("--width=" + size[0].trim());
+            options.addArguments("--height=" + size[size.length - 1].trim());
+        }
+        
+        if (performance) {
+            options.addPreference("layers.acceleration.disabled", true);
+            options.addPreference("extensions.update.enabled", false);
+            options.addPreference("app.update.enabled", false);
+            options.addPreference("network.prefetch-next", false);
+            options.addPreference("network.dns.disablePrefetch", true);
+            options.addPreference("browser.safebrowsing.malware.enabled", false);
+            options.addPreference("browser.safebrowsing.phishing.enabled", false);
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("toolkit.telemetry.enabled", false);
+            options.setPageLoadStrategy(getPageLoadStrategy());
+            
+            // URL blocking on Firefox goes through BiDi network interception
+            if (!ConfigManager.getBlockedUrlPatterns().isEmpty()) {
+                options.enableBiDi();
+            }
+        }
+    }
+    
+    /**
+     * Gets the page load strategy configured for the performance profile
+     * @return The page load strategy, eager unless configured otherwise
+     */
+    private static PageLoadStrategy getPageLoadStrategy() {
+        try {
+            return PageLoadStrategy.fromString(ConfigManager.getPageLoadStrategy().toLowerCase());
+        } catch (Exception e) {
+            return PageLoadStrategy.EAGER;
+        }
+    }
+    
+    /**
+     * Blocks requests matching the given wildcard patterns
+     * Uses CDP on Chromium browsers and BiDi network interception elsewhere
+     * @param driver The WebDriver instance
+     * @param patterns URL patterns where '*' matches any sequence of characters
+     */
+    private static void blockUrls(WebDriver driver, List<String> patterns) {
+        if (patterns.isEmpty()) {
+            return;
+        }
+        
+        try {
+            if (driver instanceof HasCdp) {
+                HasCdp cdp = (HasCdp) driver;
+                Map<String, Object> params = new HashMap<>();
+                params.put("urls", patterns);
+                cdp.executeCdpCommand("Network.enable", Collections.emptyMap());
+                cdp.executeCdpCommand("Network.setBlockedURLs", params);
+            } else if (driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent()) {
+                List<Pattern> regexes = new ArrayList<>();
+                for (String pattern : patterns) {
+                    regexes.add(toRegex(pattern));
+                }
+                
+                Network network = new Network(driver);
+                network.addIntercept(new AddInterceptParameters(InterceptPhase.BEFORE_REQUEST_SENT));
+                network.onBeforeRequestSent(event -> {
+                    if (!event.isBlocked()) {
+                        return;
+                    }
+                    String requestId = event.getRequest().getRequestId();
+                    String url = event.getRequest().getUrl();
+                    for (Pattern regex : regexes) {
+                        if (regex.matcher(url).matches()) {
+                            network.failRequest(requestId);
+                            return;
+                        }
+                    }
+                    network.continueRequest(new ContinueRequestParameters(requestId));
+                });
+            }
+        } catch (Exception e) {
+            System.err.println("Failed to enable URL blocking: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Converts a wildcard URL pattern into a regular expression
+     * @param pattern The wildcard pattern
+     * @return Compiled regular expression
+     */
+    private static Pattern toRegex(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : pattern.split("\\*", -1)) {
+            if (regex.length() > 0) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+    
     /**
      * Creates a Chrome WebDriver with default configuration
      * @return Chrome WebDriver instance
@@ -85,6 +328,9 @@ public class WebDriverFactory {
                 driver.quit();
             } catch (Exception e) {
                 System.err.println("Error while quitting driver: " + e.getMessage());
+            } finally {
+                // Processes that survive the quit are killed at the next reap point
+                ProcessTracker.closed(driver);
             }
         }
     }
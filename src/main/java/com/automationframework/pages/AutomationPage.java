@@ -105,7 +105,7 @@ public class AutomationPage extends BasePage {
      * @return true if on automation page, false otherwise
      */
     public boolean isOnAutomationPage() {
-        return isElementVisible(automationTitle) && isElementVisible(createDropdown);
+        return areElementsVisible(automationTitle, createDropdown);
     }
     
     /**
@@ -113,8 +113,6 @@ public class AutomationPage extends BasePage {
      * @return true if all elements are visible, false otherwise
      */
     public boolean areAllElementsVisible() {
-        return isElementVisible(createDropdown) && 
-               isElementVisible(automationTitle) && 
-               isElementVisible(createNewButton);
+        return areElementsVisible(createDropdown, automationTitle, createNewButton);
     }
 }
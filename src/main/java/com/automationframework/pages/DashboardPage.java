@@ -28,6 +28,13 @@ public class DashboardPage extends BasePage {
     @FindBy(className = "welcome-message")
     private WebElement welcomeMessage;
     
+    /**
+     * Creates the page for the WebDriver registered on the current thread
+     */
+    public DashboardPage() {
+        super();
+    }
+    
     public DashboardPage(WebDriver driver) {
         super(driver);
     }
@@ -100,7 +107,7 @@ public class DashboardPage extends BasePage {
      * @return true if on dashboard, false otherwise
      */
     public boolean isOnDashboard() {
-        return isElementVisible(dashboardTitle) && isElementVisible(automationMenu);
+        return areElementsVisible(dashboardTitle, automationMenu);
     }
     
     /**
@@ -108,8 +115,6 @@ public class DashboardPage extends BasePage {
      * @return true if all elements are visible, false otherwise
      */
     public boolean areAllElementsVisible() {
-        return isElementVisible(automationMenu) && 
-               isElementVisible(userProfile) && 
-               isElementVisible(dashboardTitle);
+        return areElementsVisible(automationMenu, userProfile, dashboardTitle);
     }
 }
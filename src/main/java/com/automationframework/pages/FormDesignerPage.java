@@ -2,10 +2,14 @@ package com.automationframework.pages;
 
 import com.automationframework.core.BasePage;
 import com.automationframework.core.WebExceptions;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.interactions.Actions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Page Object for Form Designer functionality
@@ -68,14 +72,19 @@ public class FormDesignerPage extends BasePage {
      * @throws WebExceptions if drag and drop fails
      */
     public void dragAndDropElement(WebElement element, WebElement dropZone) throws WebExceptions {
-        try {
-            Actions dragAndDrop = new Actions(driver);
-            dragAndDrop.dragAndDrop(element, dropZone).perform();
-            waitForPageLoad();
-        } catch (Exception e) {
-            throw new WebExceptions(WebExceptions.ExceptionType.GENERAL_EXCEPTION,
-                    "Failed to perform drag and drop: " + e.getMessage());
-        }
+        dragAndDrop(element, dropZone);
+        waitForPageLoad();
+    }
+    
+    /**
+     * Drags and drops several form elements onto their drop zones in one batch
+     * @param elements The form elements to drag
+     * @param dropZones The drop zone for each element, in the same order
+     * @throws WebExceptions if any drag and drop fails
+     */
+    public void dragAndDropElements(List<WebElement> elements, List<WebElement> dropZones) throws WebExceptions {
+        dragAndDropAll(elements, dropZones);
+        waitForPageLoad();
     }
     
     /**
@@ -94,6 +103,32 @@ public class FormDesignerPage extends BasePage {
         dragAndDropElement(selectFileElement, dropZone2);
     }
     
+    /**
+     * Drags and drops Textbox and Select File elements onto their drop zones in one batch
+     * @throws WebExceptions if drag and drop fails
+     */
+    public void addTextboxAndSelectFileElements() throws WebExceptions {
+        dragAndDropElements(Arrays.asList(textboxElement, selectFileElement), Arrays.asList(dropZone1, dropZone2));
+    }
+    
+    /**
+     * Drags and drops form elements from the left menu onto the form canvas by name
+     * All elements are placed in a single script call, so large forms build quickly
+     * @param elementNames The names of the form elements as shown in the left menu
+     * @throws WebExceptions if any drag and drop fails
+     */
+    public void addFormElements(String... elementNames) throws WebExceptions {
+        List<By> elements = new ArrayList<>();
+        List<By> canvas = new ArrayList<>();
+        for (String elementName : elementNames) {
+            elements.add(By.xpath("//div[contains(@class,'form-element') and contains(text(),"
+                    + toXPathLiteral(elementName) + ")]"));
+            canvas.add(getLocator(formCanvas));
+        }
+        dragAndDropAllByLocators(elements, canvas);
+        waitForPageLoad();
+    }
+    
     /**
      * Clicks on an element to select it and show properties in right panel
      * @param element The element to click
@@ -143,9 +178,7 @@ public class FormDesignerPage extends BasePage {
      * @return true if form designer is loaded, false otherwise
      */
     public boolean isFormDesignerLoaded() {
-        return isElementVisible(formCanvas) && 
-               isElementVisible(leftMenu) && 
-               isElementVisible(rightPanel);
+        return areElementsVisible(formCanvas, leftMenu, rightPanel);
     }
     
     /**
@@ -153,10 +186,7 @@ public class FormDesignerPage extends BasePage {
      * @return true if left menu is visible, false otherwise
      */
     public boolean isLeftMenuVisible() {
-        return isElementVisible(leftMenu) && 
-               isElementVisible(elementLibrary) &&
-               isElementVisible(textboxElement) && 
-               isElementVisible(selectFileElement);
+        return areElementsVisible(leftMenu, elementLibrary, textboxElement, selectFileElement);
     }
     
     /**
@@ -164,9 +194,7 @@ public class FormDesignerPage extends BasePage {
      * @return true if form canvas is visible, false otherwise
      */
     public boolean isFormCanvasVisible() {
-        return isElementVisible(formCanvas) && 
-               isElementVisible(dropZone1) && 
-               isElementVisible(dropZone2);
+        return areElementsVisible(formCanvas, dropZone1, dropZone2);
     }
     
     /**
@@ -174,8 +202,7 @@ public class FormDesignerPage extends BasePage {
      * @return true if right panel is visible, false otherwise
      */
     public boolean isRightPanelVisible() {
-        return isElementVisible(rightPanel) && 
-               isElementVisible(elementProperties);
+        return areElementsVisible(rightPanel, elementProperties);
     }
     
     /**
@@ -183,10 +210,8 @@ public class FormDesignerPage extends BasePage {
      * @return true if all elements are visible, false otherwise
      */
     public boolean areAllFormDesignerElementsVisible() {
-        return isFormDesignerLoaded() && 
-               isLeftMenuVisible() && 
-               isFormCanvasVisible() && 
-               isRightPanelVisible();
+        return areElementsVisible(formCanvas, leftMenu, rightPanel, elementLibrary, textboxElement,
+                selectFileElement, dropZone1, dropZone2, elementProperties);
     }
     
     /**
@@ -2,10 +2,16 @@ package com.automationframework.pages;
 
 import com.automationframework.core.BasePage;
 import com.automationframework.core.WebExceptions;
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Page Object for Form creation functionality
  * Contains elements for creating forms with mandatory details
@@ -71,8 +77,7 @@ public class FormPage extends BasePage {
      * @throws WebExceptions if category cannot be selected
      */
     public void selectFormCategory(String category) throws WebExceptions {
-        clickElement(formCategoryDropdown);
-        // Additional logic for selecting specific category
+        selectOption(formCategoryDropdown, category);
     }
     
     /**
@@ -81,8 +86,7 @@ public class FormPage extends BasePage {
      * @throws WebExceptions if form type cannot be selected
      */
     public void selectFormType(String formType) throws WebExceptions {
-        clickElement(formTypeDropdown);
-        // Additional logic for selecting specific form type
+        selectOption(formTypeDropdown, formType);
     }
     
     /**
@@ -91,8 +95,7 @@ public class FormPage extends BasePage {
      * @throws WebExceptions if access level cannot be selected
      */
     public void selectFormAccess(String accessLevel) throws WebExceptions {
-        clickElement(formAccessDropdown);
-        // Additional logic for selecting specific access level
+        selectOption(formAccessDropdown, accessLevel);
     }
     
     /**
@@ -113,7 +116,7 @@ public class FormPage extends BasePage {
     }
     
     /**
-     * Fills all mandatory form details
+     * Fills all mandatory form details in a single script execution
      * @param formName The name of the form
      * @param description The description of the form
      * @param category The category of the form
@@ -123,11 +126,31 @@ public class FormPage extends BasePage {
      */
     public void fillMandatoryDetails(String formName, String description, String category, 
                                    String formType, String accessLevel) throws WebExceptions {
-        enterFormName(formName);
-        enterFormDescription(description);
-        selectFormCategory(category);
-        selectFormType(formType);
-        selectFormAccess(accessLevel);
+        Map<By, String> fields = new LinkedHashMap<>();
+        fields.put(getLocator(formNameField), formName);
+        fields.put(getLocator(formDescriptionField), description);
+        fields.put(getLocator(formCategoryDropdown), category);
+        fields.put(getLocator(formTypeDropdown), formType);
+        fields.put(getLocator(formAccessDropdown), accessLevel);
+        
+        // Custom dropdowns are not native selects and still need the click-based selection;
+        // autocomplete text fields are typed into
+        List<By> unfilled = fillFields(fields, ConfigManager.isFormFillVerifyEnabled());
+        if (unfilled.contains(getLocator(formNameField))) {
+            enterFormName(formName);
+        }
+        if (unfilled.contains(getLocator(formDescriptionField))) {
+            enterFormDescription(description);
+        }
+        if (unfilled.contains(getLocator(formCategoryDropdown))) {
+            selectFormCategory(category);
+        }
+        if (unfilled.contains(getLocator(formTypeDropdown))) {
+            selectFormType(formType);
+        }
+        if (unfilled.contains(getLocator(formAccessDropdown))) {
+            selectFormAccess(accessLevel);
+        }
     }
     
     /**
@@ -195,11 +218,7 @@ public class FormPage extends BasePage {
      * @return true if all elements are visible, false otherwise
      */
     public boolean areAllFormElementsVisible() {
-        return isElementVisible(formNameField) && 
-               isElementVisible(formDescriptionField) && 
-               isElementVisible(formCategoryDropdown) && 
-               isElementVisible(formTypeDropdown) && 
-               isElementVisible(formAccessDropdown) && 
-               isElementVisible(createFormButton);
+        return areElementsVisible(formNameField, formDescriptionField, formCategoryDropdown,
+                formTypeDropdown, formAccessDropdown, createFormButton);
     }
 }
@@ -1,10 +1,17 @@
 package com.automationframework.pages;
 
 import com.automationframework.core.BasePage;
+import com.automationframework.core.UploadMonitor;
 import com.automationframework.core.WebExceptions;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Map;
 
 /**
  * Page Object for Form Preview and Submission functionality
@@ -55,6 +62,17 @@ public class FormPreviewPage extends BasePage {
     @FindBy(className = "form-submission-response")
     private WebElement formSubmissionResponse;
     
+    private String uploadFilePath;
+    private long uploadStartNanos;
+    private UploadMonitor.UploadResult lastUploadResult;
+    
+    /**
+     * Creates the page for the WebDriver registered on the current thread
+     */
+    public FormPreviewPage() {
+        super();
+    }
+    
     public FormPreviewPage(WebDriver driver) {
         super(driver);
     }
@@ -79,13 +97,16 @@ public class FormPreviewPage extends BasePage {
     
     /**
      * Uploads a file using the file input element
+     * Returns once the file is handed to the page; waitForFileUploadToComplete waits for the upload
      * @param filePath The path to the file to upload
      * @throws WebExceptions if file upload fails
      */
     public void uploadFile(String filePath) throws WebExceptions {
         try {
+            UploadMonitor.arm(jsExecutor);
+            uploadFilePath = filePath;
+            uploadStartNanos = System.nanoTime();
             fileUploadInput.sendKeys(filePath);
-            waitForPageLoad();
         } catch (Exception e) {
             throw new WebExceptions(WebExceptions.ExceptionType.GENERAL_EXCEPTION,
                     "Failed to upload file: " + e.getMessage());
@@ -213,8 +234,7 @@ public class FormPreviewPage extends BasePage {
      * @return true if form preview is loaded, false otherwise
      */
     public boolean isFormPreviewLoaded() {
-        return isElementVisible(formPreviewContainer) && 
-               isElementVisible(formPreviewTitle);
+        return areElementsVisible(formPreviewContainer, formPreviewTitle);
     }
     
     /**
@@ -222,9 +242,7 @@ public class FormPreviewPage extends BasePage {
      * @return true if all input elements are visible, false otherwise
      */
     public boolean areAllFormInputElementsVisible() {
-        return isElementVisible(textboxInput) && 
-               isElementVisible(fileUploadInput) && 
-               isElementVisible(fileUploadButton);
+        return areElementsVisible(textboxInput, fileUploadInput, fileUploadButton);
     }
     
     /**
@@ -232,8 +250,7 @@ public class FormPreviewPage extends BasePage {
      * @return true if all submission elements are visible, false otherwise
      */
     public boolean areAllFormSubmissionElementsVisible() {
-        return isElementVisible(submitFormButton) && 
-               isElementVisible(resetFormButton);
+        return areElementsVisible(submitFormButton, resetFormButton);
     }
     
     /**
@@ -241,9 +258,8 @@ public class FormPreviewPage extends BasePage {
      * @return true if all elements are visible, false otherwise
      */
     public boolean areAllFormPreviewElementsVisible() {
-        return isFormPreviewLoaded() && 
-               areAllFormInputElementsVisible() && 
-               areAllFormSubmissionElementsVisible();
+        return areElementsVisible(formPreviewContainer, formPreviewTitle, textboxInput, fileUploadInput,
+                fileUploadButton, submitFormButton, resetFormButton);
     }
     
     /**
@@ -256,24 +272,51 @@ public class FormPreviewPage extends BasePage {
     
     /**
      * Waits for file upload to complete
+     * Returns as soon as the page shows the success or error message, or an upload request fails,
+     * and records the upload duration and throughput
      * @param timeoutSeconds Maximum time to wait in seconds
      * @return true if upload completed successfully, false otherwise
      */
     public boolean waitForFileUploadToComplete(int timeoutSeconds) {
+        long startNanos = uploadStartNanos != 0 ? uploadStartNanos : System.nanoTime();
         try {
-            int attempts = 0;
-            int maxAttempts = timeoutSeconds * 2; // Check every 500ms
-            
-            while (attempts < maxAttempts) {
-                if (!isUploadInProgress() && (isSuccessMessageDisplayed() || isErrorMessageDisplayed())) {
-                    return isFileUploadSuccessful();
+            lastUploadResult = UploadMonitor.await(jsExecutor, getInPageTarget(uploadProgress),
+                    getInPageTarget(successMessage), getInPageTarget(errorMessage), Duration.ofSeconds(timeoutSeconds),
+                    uploadFilePath, startNanos);
+        } catch (WebDriverException e) {
+            System.err.println("In-page upload monitor unavailable, polling upload status: " + e.getMessage());
+            lastUploadResult = UploadMonitor.record(uploadFilePath, startNanos, pollUploadStatus(timeoutSeconds));
+        }
+        return lastUploadResult.isSuccessful();
+    }
+    
+    /**
+     * Gets the outcome, duration and throughput of the last upload waited for
+     * @return The last upload result, or null if no upload was waited for
+     */
+    public UploadMonitor.UploadResult getLastUploadResult() {
+        return lastUploadResult;
+    }
+    
+    /**
+     * Polls the progress, success and error messages with one visibility check per poll
+     * @param timeoutSeconds Maximum time to wait in seconds
+     * @return success, error or timeout
+     */
+    private String pollUploadStatus(int timeoutSeconds) {
+        try {
+            return new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds), Duration.ofMillis(100)).until(webDriver -> {
+                Map<WebElement, Boolean> visibility = getElementsVisibility(uploadProgress, successMessage, errorMessage);
+                if (Boolean.TRUE.equals(visibility.get(errorMessage))) {
+                    return UploadMonitor.ERROR;
                 }
-                Thread.sleep(1000);
-                attempts++;
-            }
-            return false;
-        } catch (Exception e) {
-            return false;
+                if (Boolean.TRUE.equals(visibility.get(successMessage)) && !Boolean.TRUE.equals(visibility.get(uploadProgress))) {
+                    return UploadMonitor.SUCCESS;
+                }
+                return null;
+            });
+        } catch (TimeoutException e) {
+            return UploadMonitor.TIMEOUT;
         }
     }
 }
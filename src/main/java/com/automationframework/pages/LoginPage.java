@@ -28,6 +28,13 @@ public class LoginPage extends BasePage {
     @FindBy(className = "success-message")
     private WebElement successMessage;
     
+    /**
+     * Creates the page for the WebDriver registered on the current thread
+     */
+    public LoginPage() {
+        super();
+    }
+    
     public LoginPage(WebDriver driver) {
         super(driver);
     }
@@ -110,8 +117,6 @@ public class LoginPage extends BasePage {
      * @return true if all elements are visible, false otherwise
      */
     public boolean areAllElementsVisible() {
-        return isElementVisible(usernameField) && 
-               isElementVisible(passwordField) && 
-               isElementVisible(loginButton);
+        return areElementsVisible(usernameField, passwordField, loginButton);
     }
 }
@@ -0,0 +1,43 @@
+package com.automationframework.pages;
+
+import com.automationframework.core.PageGraph;
+import com.automationframework.core.PageNavigator;
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Navigation graph of the application pages
+ * Tests ask for a page instead of scripting the clicks that lead to it, e.g.
+ * {@code PageRoutes.navigator(driver).navigateTo(TaskBotPage.class)}
+ */
+public class PageRoutes {
+    
+    private static final PageGraph GRAPH = new PageGraph()
+            .page(DashboardPage.class, DashboardPage::new, DashboardPage::isOnDashboard, ConfigManager::getDashboardUrl)
+            .page(AutomationPage.class, AutomationPage::new, AutomationPage::isOnAutomationPage, ConfigManager::getAutomationUrl)
+            .page(TaskBotPage.class, TaskBotPage::new, TaskBotPage::areAllFormElementsVisible, ConfigManager::getTaskBotUrl)
+            .page(FormPage.class, FormPage::new, FormPage::areAllFormElementsVisible, ConfigManager::getFormUrl)
+            .link(DashboardPage.class, AutomationPage.class, DashboardPage::clickAutomationMenu)
+            .link(AutomationPage.class, TaskBotPage.class, AutomationPage::selectTaskBot)
+            .link(AutomationPage.class, FormPage.class, AutomationPage::selectForm);
+    
+    private PageRoutes() {
+    }
+    
+    /**
+     * Gets the navigation graph of the application
+     * @return The page graph
+     */
+    public static PageGraph getGraph() {
+        return GRAPH;
+    }
+    
+    /**
+     * Creates a navigator over the application pages
+     * @param driver The WebDriver instance to navigate
+     * @return The page navigator
+     */
+    public static PageNavigator navigator(WebDriver driver) {
+        return new PageNavigator(driver, GRAPH);
+    }
+}
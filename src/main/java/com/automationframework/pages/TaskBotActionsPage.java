@@ -1,6 +1,7 @@
 package com.automationframework.pages;
 
 import com.automationframework.core.BasePage;
+import com.automationframework.core.TextEntry;
 import com.automationframework.core.WebExceptions;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -63,7 +64,8 @@ public class TaskBotActionsPage extends BasePage {
      * @throws WebExceptions if search fails
      */
     public void searchForAction(String actionName) throws WebExceptions {
-        enterText(actionSearchField, actionName);
+        // The action list filters on key events
+        enterText(actionSearchField, actionName, TextEntry.TYPE);
     }
     
     /**
@@ -98,8 +100,7 @@ public class TaskBotActionsPage extends BasePage {
      * @throws WebExceptions if message type cannot be selected
      */
     public void selectMessageType(String messageType) throws WebExceptions {
-        clickElement(messageTypeDropdown);
-        // Additional logic for selecting specific message type
+        selectOption(messageTypeDropdown, messageType);
     }
     
     /**
@@ -184,7 +185,7 @@ public class TaskBotActionsPage extends BasePage {
      * @return true if actions panel is visible, false otherwise
      */
     public boolean isActionsPanelVisible() {
-        return isElementVisible(actionsPanel) && isElementVisible(actionSearchField);
+        return areElementsVisible(actionsPanel, actionSearchField);
     }
     
     /**
@@ -192,7 +193,7 @@ public class TaskBotActionsPage extends BasePage {
      * @return true if right panel is visible, false otherwise
      */
     public boolean isRightPanelVisible() {
-        return isElementVisible(rightPanel) && isElementVisible(messageBoxConfig);
+        return areElementsVisible(rightPanel, messageBoxConfig);
     }
     
     /**
@@ -200,10 +201,8 @@ public class TaskBotActionsPage extends BasePage {
      * @return true if all elements are visible, false otherwise
      */
     public boolean areAllConfigElementsVisible() {
-        return isElementVisible(messageTextField) && 
-               isElementVisible(messageTypeDropdown) && 
-               isElementVisible(messageDurationField) && 
-               isElementVisible(saveConfigButton);
+        return areElementsVisible(messageTextField, messageTypeDropdown,
+                messageDurationField, saveConfigButton);
     }
     
     /**
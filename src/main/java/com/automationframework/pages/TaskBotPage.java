@@ -2,10 +2,16 @@ package com.automationframework.pages;
 
 import com.automationframework.core.BasePage;
 import com.automationframework.core.WebExceptions;
+import com.automationframework.utils.ConfigManager;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Page Object for Task Bot creation functionality
  * Contains elements for creating Task Bots with mandatory details
@@ -71,9 +77,7 @@ public class TaskBotPage extends BasePage {
      * @throws WebExceptions if category cannot be selected
      */
     public void selectTaskCategory(String category) throws WebExceptions {
-        // Implementation for dropdown selection
-        clickElement(taskCategoryDropdown);
-        // Additional logic for selecting specific category
+        selectOption(taskCategoryDropdown, category);
     }
     
     /**
@@ -82,9 +86,7 @@ public class TaskBotPage extends BasePage {
      * @throws WebExceptions if priority cannot be selected
      */
     public void selectTaskPriority(String priority) throws WebExceptions {
-        // Implementation for dropdown selection
-        clickElement(taskPriorityDropdown);
-        // Additional logic for selecting specific priority
+        selectOption(taskPriorityDropdown, priority);
     }
     
     /**
@@ -114,7 +116,7 @@ public class TaskBotPage extends BasePage {
     }
     
     /**
-     * Fills all mandatory task details
+     * Fills all mandatory task details in a single script execution
      * @param taskName The name of the task
      * @param description The description of the task
      * @param category The category of the task
@@ -124,11 +126,31 @@ public class TaskBotPage extends BasePage {
      */
     public void fillMandatoryDetails(String taskName, String description, String category, 
                                    String priority, String assignee) throws WebExceptions {
-        enterTaskName(taskName);
-        enterTaskDescription(description);
-        selectTaskCategory(category);
-        selectTaskPriority(priority);
-        enterTaskAssignee(assignee);
+        Map<By, String> fields = new LinkedHashMap<>();
+        fields.put(getLocator(taskNameField), taskName);
+        fields.put(getLocator(taskDescriptionField), description);
+        fields.put(getLocator(taskCategoryDropdown), category);
+        fields.put(getLocator(taskPriorityDropdown), priority);
+        fields.put(getLocator(taskAssigneeField), assignee);
+        
+        // Custom dropdowns are not native selects and still need the click-based selection;
+        // autocomplete text fields are typed into
+        List<By> unfilled = fillFields(fields, ConfigManager.isFormFillVerifyEnabled());
+        if (unfilled.contains(getLocator(taskNameField))) {
+            enterTaskName(taskName);
+        }
+        if (unfilled.contains(getLocator(taskDescriptionField))) {
+            enterTaskDescription(description);
+        }
+        if (unfilled.contains(getLocator(taskCategoryDropdown))) {
+            selectTaskCategory(category);
+        }
+        if (unfilled.contains(getLocator(taskPriorityDropdown))) {
+            selectTaskPriority(priority);
+        }
+        if (unfilled.contains(getLocator(taskAssigneeField))) {
+            enterTaskAssignee(assignee);
+        }
     }
     
     /**
@@ -196,11 +218,7 @@ public class TaskBotPage extends BasePage {
      * @return true if all elements are visible, false otherwise
      */
     public boolean areAllFormElementsVisible() {
-        return isElementVisible(taskNameField) && 
-               isElementVisible(taskDescriptionField) && 
-               isElementVisible(taskCategoryDropdown) && 
-               isElementVisible(taskPriorityDropdown) && 
-               isElementVisible(taskAssigneeField) && 
-               isElementVisible(createButton);
+        return areElementsVisible(taskNameField, taskDescriptionField, taskCategoryDropdown,
+                taskPriorityDropdown, taskAssigneeField, createButton);
     }
 }
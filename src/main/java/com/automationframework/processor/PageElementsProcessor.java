@@ -0,0 +1,338 @@
+package com.automationframework.processor;
+
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.How;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a page element binder for every class with @FindBy, @FindBys or @FindAll fields
+ * The binder {@code <PageClass>_PageElements} assigns a LazyWebElement built from the
+ * annotation to each field, so creating a page needs neither PageFactory's reflection nor
+ * dynamic proxies. Fields keep their declared access: the binder resolves one VarHandle per
+ * field through a private lookup when it is loaded. Classes with fields a binder cannot
+ * assign (static, final or not a WebElement) get no binder and keep using PageFactory at runtime
+ */
+@SupportedAnnotationTypes({
+        "org.openqa.selenium.support.FindBy",
+        "org.openqa.selenium.support.FindBys",
+        "org.openqa.selenium.support.FindAll"
+})
+public class PageElementsProcessor extends AbstractProcessor {
+    
+    private static final String BINDER_SUFFIX = "_PageElements";
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+    private static final String BY = "org.openqa.selenium.By";
+    private static final String VAR_HANDLE = "java.lang.invoke.VarHandle";
+    private static final String METHOD_HANDLES = "java.lang.invoke.MethodHandles";
+    
+    private final Set<String> generated = new HashSet<>();
+    
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+    
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> pages = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    pages.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        
+        for (TypeElement page : pages) {
+            String reason = getIneligibleReason(page);
+            if (reason != null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "No page element binder generated, PageFactory is used: " + reason, page);
+                continue;
+            }
+            if (generated.add(page.getQualifiedName().toString())) {
+                writeBinder(page);
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Checks if a binder in the page's package can assign all annotated fields of the page and its superclasses
+     * @param page The page class
+     * @return null if a binder can be generated, otherwise the reason it cannot
+     */
+    private String getIneligibleReason(TypeElement page) {
+        Set<String> names = new HashSet<>();
+        for (TypeElement type = page; type != null; type = getSuperclass(type)) {
+            if (!getAnnotatedFields(type).isEmpty()) {
+                if (type.getModifiers().contains(Modifier.PRIVATE)
+                        || (type.getNestingKind() != NestingKind.TOP_LEVEL && !type.getModifiers().contains(Modifier.STATIC))) {
+                    return type.getSimpleName() + " is private or an inner class";
+                }
+                if (type != page && !getPackage(type).equals(getPackage(page))
+                        && !type.getModifiers().contains(Modifier.PUBLIC)) {
+                    return type.getSimpleName() + " is not public";
+                }
+            }
+            for (VariableElement field : getAnnotatedFields(type)) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (!names.add(field.getSimpleName().toString())) {
+                    return field.getSimpleName() + " hides a superclass field";
+                }
+                if (!WEB_ELEMENT.equals(field.asType().toString())) {
+                    return field.getSimpleName() + " is not a WebElement";
+                }
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+                    return field.getSimpleName() + " is static or final";
+                }
+            }
+        }
+        return null;
+    }
+    
+    private void writeBinder(TypeElement page) {
+        String packageName = getPackage(page);
+        String pageName = page.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(page).toString();
+        String binderName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1) + BINDER_SUFFIX;
+        
+        Map<String, String> locators = new LinkedHashMap<>();
+        Map<String, String> declaringTypes = new LinkedHashMap<>();
+        for (TypeElement type = page; type != null; type = getSuperclass(type)) {
+            for (VariableElement field : getAnnotatedFields(type)) {
+                String name = field.getSimpleName().toString();
+                try {
+                    locators.put(name, buildBy(field) + ", " + literal(type.getSimpleName() + "." + name));
+                    declaringTypes.put(name, type.getQualifiedName().toString());
+                } catch (IllegalArgumentException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), field);
+                    return;
+                }
+            }
+        }
+        
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Page element binder for ").append(page.getSimpleName()).append("\n")
+                .append(" * Generated by ").append(getClass().getSimpleName()).append(", do not edit\n")
+                .append(" */\n")
+                .append("public final class ").append(binderName)
+                .append(" implements com.automationframework.core.PageElementBinder<").append(pageName).append("> {\n\n");
+        for (String name : locators.keySet()) {
+            source.append("    private static final ").append(VAR_HANDLE).append(" ").append(toHandleName(name)).append(";\n");
+        }
+        source.append("\n")
+                .append("    static {\n")
+                .append("        try {\n");
+        for (Map.Entry<String, String> field : declaringTypes.entrySet()) {
+            source.append("            ").append(toHandleName(field.getKey())).append(" = ").append(METHOD_HANDLES)
+                    .append(".privateLookupIn(").append(field.getValue()).append(".class, ").append(METHOD_HANDLES)
+                    .append(".lookup())\n")
+                    .append("                    .findVarHandle(").append(field.getValue()).append(".class, ")
+                    .append(literal(field.getKey())).append(", ").append(WEB_ELEMENT).append(".class);\n");
+        }
+        source.append("        } catch (ReflectiveOperationException e) {\n")
+                .append("            throw new ExceptionInInitializerError(e);\n")
+                .append("        }\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void bind(").append(pageName).append(" page, org.openqa.selenium.WebDriver driver) {\n");
+        for (Map.Entry<String, String> locator : locators.entrySet()) {
+            source.append("        ").append(toHandleName(locator.getKey()))
+                    .append(".set(page, new com.automationframework.core.LazyWebElement(driver, ")
+                    .append(locator.getValue()).append("));\n");
+        }
+        source.append("    }\n")
+                .append("}\n");
+        
+        String qualifiedBinderName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedBinderName, page).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write page element binder " + qualifiedBinderName + ": " + e.getMessage(), page);
+        }
+    }
+    
+    /**
+     * Builds the Java expression of the locator Selenium's Annotations would build at runtime
+     * @param field The annotated field
+     * @return The By expression
+     * @throws IllegalArgumentException if the annotations are invalid
+     */
+    private String buildBy(VariableElement field) {
+        FindBy findBy = field.getAnnotation(FindBy.class);
+        FindBys findBys = field.getAnnotation(FindBys.class);
+        FindAll findAll = field.getAnnotation(FindAll.class);
+        if ((findBy != null ? 1 : 0) + (findBys != null ? 1 : 0) + (findAll != null ? 1 : 0) > 1) {
+            throw new IllegalArgumentException("Only one of @FindBy, @FindBys or @FindAll can be used on "
+                    + field.getSimpleName());
+        }
+        if (findBys != null) {
+            return "new org.openqa.selenium.support.pagefactory.ByChained(" + buildAll(findBys.value()) + ")";
+        }
+        if (findAll != null) {
+            return "new org.openqa.selenium.support.pagefactory.ByAll(" + buildAll(findAll.value()) + ")";
+        }
+        return buildBy(findBy, field);
+    }
+    
+    private String buildAll(FindBy[] findBys) {
+        List<String> locators = new ArrayList<>();
+        for (FindBy findBy : findBys) {
+            locators.add(buildBy(findBy, null));
+        }
+        return String.join(", ", locators);
+    }
+    
+    private String buildBy(FindBy findBy, VariableElement field) {
+        if (findBy.how() != How.UNSET) {
+            return buildBy(findBy.how(), findBy.using());
+        }
+        
+        Map<How, String> values = new LinkedHashMap<>();
+        values.put(How.ID, findBy.id());
+        values.put(How.NAME, findBy.name());
+        values.put(How.CLASS_NAME, findBy.className());
+        values.put(How.CSS, findBy.css());
+        values.put(How.TAG_NAME, findBy.tagName());
+        values.put(How.LINK_TEXT, findBy.linkText());
+        values.put(How.PARTIAL_LINK_TEXT, findBy.partialLinkText());
+        values.put(How.XPATH, findBy.xpath());
+        String by = null;
+        for (Map.Entry<How, String> value : values.entrySet()) {
+            if (!value.getValue().isEmpty()) {
+                if (by != null) {
+                    throw new IllegalArgumentException("@FindBy must set exactly one locator"
+                            + (field != null ? " on " + field.getSimpleName() : ""));
+                }
+                by = buildBy(value.getKey(), value.getValue());
+            }
+        }
+        if (by == null) {
+            throw new IllegalArgumentException("@FindBy sets no locator" + (field != null ? " on " + field.getSimpleName() : ""));
+        }
+        return by;
+    }
+    
+    private String buildBy(How how, String using) {
+        String value = literal(using);
+        switch (how) {
+            case ID:
+                return BY + ".id(" + value + ")";
+            case ID_OR_NAME:
+                return "new org.openqa.selenium.support.ByIdOrName(" + value + ")";
+            case NAME:
+                return BY + ".name(" + value + ")";
+            case CLASS_NAME:
+                return BY + ".className(" + value + ")";
+            case CSS:
+                return BY + ".cssSelector(" + value + ")";
+            case TAG_NAME:
+                return BY + ".tagName(" + value + ")";
+            case LINK_TEXT:
+                return BY + ".linkText(" + value + ")";
+            case PARTIAL_LINK_TEXT:
+                return BY + ".partialLinkText(" + value + ")";
+            case XPATH:
+                return BY + ".xpath(" + value + ")";
+            default:
+                throw new IllegalArgumentException("Unsupported locator strategy " + how);
+        }
+    }
+    
+    private List<VariableElement> getAnnotatedFields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (Element element : type.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.FIELD && (element.getAnnotation(FindBy.class) != null
+                    || element.getAnnotation(FindBys.class) != null || element.getAnnotation(FindAll.class) != null)) {
+                fields.add((VariableElement) element);
+            }
+        }
+        return fields;
+    }
+    
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+    
+    private String getPackage(TypeElement type) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        return packageElement.getQualifiedName().toString();
+    }
+    
+    /**
+     * Names the VarHandle constant of a field, e.g. usernameField becomes usernameField_HANDLE
+     * Field names are unique across the page hierarchy, so the names cannot collide
+     * @param field The field name
+     * @return The constant name
+     */
+    private static String toHandleName(String field) {
+        return field + "_HANDLE";
+    }
+    
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -3,7 +3,14 @@ package com.automationframework.utils;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Utility class for managing configuration properties
@@ -13,6 +20,7 @@ public class ConfigManager {
     
     private static final Properties properties = new Properties();
     private static final String CONFIG_FILE = "config.properties";
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)\\}");
     
     static {
         loadProperties();
@@ -39,7 +47,7 @@ public class ConfigManager {
      * @return The property value
      */
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return resolvePlaceholders(properties.getProperty(key), Collections.singleton(key));
     }
     
     /**
@@ -49,7 +57,35 @@ public class ConfigManager {
      * @return The property value or default value
      */
     public static String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return resolvePlaceholders(properties.getProperty(key, defaultValue), Collections.singleton(key));
+    }
+    
+    /**
+     * Resolves ${key} references to other properties, e.g. app.login.url=${app.base.url}/login
+     * References to unknown keys and cyclic references, e.g. a=${b} with b=${a}, are left as they are
+     * @param value The raw property value
+     * @param resolving The keys whose values are being resolved, including the one of this value
+     * @return The value with all known references replaced
+     */
+    private static String resolvePlaceholders(String value, Set<String> resolving) {
+        if (value == null || !value.contains("${")) {
+            return value;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(value);
+        StringBuffer resolved = new StringBuffer();
+        while (matcher.find()) {
+            String key = matcher.group(1);
+            String replacement = resolving.contains(key) ? null : properties.getProperty(key);
+            if (replacement != null) {
+                Set<String> nested = new HashSet<>(resolving);
+                nested.add(key);
+                replacement = resolvePlaceholders(replacement, nested);
+            }
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(
+                    replacement != null ? replacement : matcher.group()));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
     }
     
     /**
@@ -139,6 +175,22 @@ public class ConfigManager {
         return getProperty("app.automation.url");
     }
     
+    /**
+     * Gets the Task Bot creation URL from configuration
+     * @return The Task Bot URL, or null if the page cannot be opened directly
+     */
+    public static String getTaskBotUrl() {
+        return getProperty("app.taskbot.url");
+    }
+    
+    /**
+     * Gets the Form creation URL from configuration
+     * @return The Form URL, or null if the page cannot be opened directly
+     */
+    public static String getFormUrl() {
+        return getProperty("app.form.url");
+    }
+    
     /**
      * Gets the default browser from configuration
      * @return The default browser
@@ -195,6 +247,396 @@ public class ConfigManager {
         return getBooleanProperty("browser.maximize", true);
     }
     
+    /**
+     * Gets the browser profile from configuration
+     * @return The browser profile, either "default" or "performance"
+     */
+    public static String getBrowserProfile() {
+        return getProperty("browser.profile", "default");
+    }
+    
+    /**
+     * Gets the fixed window size used for headless and performance runs
+     * @return The window size as "width,height"
+     */
+    public static String getBrowserWindowSize() {
+        return getProperty("browser.window.size", "1920,1080");
+    }
+    
+    /**
+     * Gets the page load strategy used by the performance profile
+     * @return The page load strategy name
+     */
+    public static String getPageLoadStrategy() {
+        return getProperty("browser.pageLoadStrategy", "eager");
+    }
+    
+    /**
+     * Gets the URL patterns blocked by the performance profile
+     * @return List of wildcard URL patterns, empty if nothing is blocked
+     */
+    public static List<String> getBlockedUrlPatterns() {
+        List<String> patterns = new ArrayList<>();
+        for (String pattern : getProperty("browser.block.urls", "").split(",")) {
+            if (!pattern.trim().isEmpty()) {
+                patterns.add(pattern.trim());
+            }
+        }
+        return patterns;
+    }
+    
+    /**
+     * Checks if tests should run in isolated BiDi user contexts of shared browsers
+     * @return true if browser contexts are enabled, false otherwise
+     */
+    public static boolean isBrowserContextsEnabled() {
+        return getBooleanProperty("browser.contexts.enabled", false);
+    }
+    
+    /**
+     * Gets the maximum number of user contexts hosted by one browser process
+     * @return The maximum contexts per browser
+     */
+    public static int getBrowserContextsMaxPerBrowser() {
+        return getIntProperty("browser.contexts.max.per.browser", 8);
+    }
+    
+    /**
+     * Checks if authenticated session state should be cached and injected
+     * @return true if session caching is enabled, false otherwise
+     */
+    public static boolean isSessionCacheEnabled() {
+        return getBooleanProperty("session.cache.enabled", true);
+    }
+    
+    /**
+     * Gets the time to live of a cached session
+     * @return The session cache TTL in seconds
+     */
+    public static int getSessionCacheTtl() {
+        return getIntProperty("session.cache.ttl.seconds", 900);
+    }
+    
+    /**
+     * Gets how the cached session is obtained when none exists
+     * @return "ui" to capture after a UI login, "api" to log in through the API
+     */
+    public static String getSessionCacheLoginSource() {
+        return getProperty("session.cache.login.source", "ui");
+    }
+    
+    /**
+     * Gets the localStorage key that holds the API auth token
+     * @return The localStorage key
+     */
+    public static String getSessionTokenStorageKey() {
+        return getProperty("session.token.storage.key", "authToken");
+    }
+    
+    /**
+     * Gets the cookie name that holds the API auth token
+     * @return The cookie name, empty if the token is not stored in a cookie
+     */
+    public static String getSessionTokenCookieName() {
+        return getProperty("session.token.cookie.name", "");
+    }
+    
+    /**
+     * Gets the lightweight path opened to set cookies and storage on the application origin
+     * @return The bootstrap path
+     */
+    public static String getSessionBootstrapPath() {
+        return getProperty("session.cache.bootstrap.path", "/favicon.ico");
+    }
+    
+    /**
+     * Checks if tests get a driver handle that starts its session on the first command
+     * @return true if lazy drivers are enabled, false if the session is acquired before each test
+     */
+    public static boolean isLazyDriverEnabled() {
+        return getBooleanProperty("driver.lazy.enabled", true);
+    }
+    
+    /**
+     * Checks if lazy drivers acquire their session in the background as soon as they are created
+     * @return true if sessions are acquired speculatively, false if only on the first command
+     */
+    public static boolean isLazyDriverSpeculative() {
+        return getBooleanProperty("driver.lazy.speculative", true);
+    }
+    
+    /**
+     * Checks if WebDriver sessions should be pooled and reused across tests
+     * @return true if driver pooling is enabled, false otherwise
+     */
+    public static boolean isDriverPoolEnabled() {
+        return getBooleanProperty("driver.pool.enabled", true);
+    }
+    
+    /**
+     * Gets the maximum number of pooled sessions per browser type and options
+     * @return The maximum pool size
+     */
+    public static int getDriverPoolMaxSize() {
+        return getIntProperty("driver.pool.max.size", 4);
+    }
+    
+    /**
+     * Gets the number of sessions to start at suite start
+     * @return The pre-warm count
+     */
+    public static int getDriverPoolPrewarmCount() {
+        return getIntProperty("driver.pool.prewarm.count", 1);
+    }
+    
+    /**
+     * Gets the maximum time to wait for a pooled session
+     * @return The acquire timeout in seconds
+     */
+    public static int getDriverPoolAcquireTimeout() {
+        return getIntProperty("driver.pool.acquire.timeout", 120);
+    }
+    
+    /**
+     * Checks if the processes of each session should be tracked and leftovers killed
+     * @return true if the process tracker is enabled, false otherwise
+     */
+    public static boolean isProcessTrackerEnabled() {
+        return getBooleanProperty("process.tracker.enabled", true);
+    }
+    
+    /**
+     * Gets how long the processes of a quit session may take to exit before they count as leaked
+     * @return The grace period in milliseconds
+     */
+    public static int getProcessTrackerGraceMillis() {
+        return getIntProperty("process.tracker.grace.ms", 3000);
+    }
+    
+    /**
+     * Checks if sessions should be quit by background reaper threads
+     * @return true if the driver reaper is enabled, false if quits run on the calling thread
+     */
+    public static boolean isDriverReaperEnabled() {
+        return getBooleanProperty("driver.reaper.enabled", true);
+    }
+    
+    /**
+     * Gets the number of threads quitting sessions in the background
+     * @return The number of reaper threads
+     */
+    public static int getDriverReaperThreads() {
+        return getIntProperty("driver.reaper.threads", 2);
+    }
+    
+    /**
+     * Gets how many quits may wait for a reaper thread before callers quit sessions themselves
+     * @return The reaper queue size
+     */
+    public static int getDriverReaperQueueSize() {
+        return getIntProperty("driver.reaper.queue.size", 8);
+    }
+    
+    /**
+     * Gets how long a quit may take before the browser process tree is killed
+     * @return The quit timeout in seconds
+     */
+    public static int getDriverQuitTimeout() {
+        return getIntProperty("driver.quit.timeout", 15);
+    }
+    
+    /**
+     * Checks if sessions should share one driver service process per browser type
+     * @return true if driver services are shared, false otherwise
+     */
+    public static boolean isDriverServiceShared() {
+        return getBooleanProperty("driver.service.shared", true);
+    }
+    
+    /**
+     * Gets the connect timeout for HTTP calls to the driver service
+     * @return The connect timeout in seconds
+     */
+    public static int getDriverHttpConnectTimeout() {
+        return getIntProperty("driver.http.connect.timeout", 10);
+    }
+    
+    /**
+     * Gets the read timeout for HTTP calls to the driver service
+     * @return The read timeout in seconds
+     */
+    public static int getDriverHttpReadTimeout() {
+        return getIntProperty("driver.http.read.timeout", 180);
+    }
+    
+    /**
+     * Gets the element wait engine
+     * @return event for in-page MutationObserver waits, polling for WebDriverWait polling
+     */
+    public static String getWaitEngine() {
+        return getProperty("wait.engine", "event");
+    }
+    
+    /**
+     * Gets the page readiness mode used after actions
+     * @return smart for request and DOM tracking, readystate for document.readyState polling
+     */
+    public static String getReadinessMode() {
+        return getProperty("readiness.mode", "smart");
+    }
+    
+    /**
+     * Gets how long network and DOM must stay quiet before a page counts as ready
+     * @return The quiet period in milliseconds
+     */
+    public static int getReadinessQuietMillis() {
+        return getIntProperty("readiness.quiet.ms", 100);
+    }
+    
+    /**
+     * Checks if bulk-filled form fields should be read back and compared
+     * @return true if form fill verification is enabled, false otherwise
+     */
+    public static boolean isFormFillVerifyEnabled() {
+        return getBooleanProperty("form.fill.verify", false);
+    }
+    
+    /**
+     * Gets the default text entry mode
+     * @return type for key events, insert for one insertion, auto to insert long texts into fields that do not need keystrokes
+     */
+    public static String getTextEntryMode() {
+        return getProperty("text.entry.mode", "auto");
+    }
+    
+    /**
+     * Gets the text length from which the auto text entry mode inserts instead of typing
+     * @return The minimum number of characters
+     */
+    public static int getTextEntryInsertMinLength() {
+        return getIntProperty("text.entry.insert.min.length", 20);
+    }
+    
+    /**
+     * Gets the drag and drop strategy
+     * @return script for simulated HTML5 events, actions for pointer input, auto for script with an actions fallback
+     */
+    public static String getDragAndDropStrategy() {
+        return getProperty("dnd.strategy", "auto");
+    }
+    
+    /**
+     * Checks if resolved page factory elements should be reused until navigation or staleness
+     * @return true if the element cache is enabled, false otherwise
+     */
+    public static boolean isElementCacheEnabled() {
+        return getBooleanProperty("element.cache.enabled", true);
+    }
+    
+    /**
+     * Checks if page elements should be bound by the generated binders instead of PageFactory
+     * @return true if generated page element binders are enabled, false otherwise
+     */
+    public static boolean isGeneratedPageElementsEnabled() {
+        return getBooleanProperty("page.elements.generated", true);
+    }
+    
+    /**
+     * Checks if page element lookups should be timed and ranked
+     * @return true if the locator profiler is enabled, false otherwise
+     */
+    public static boolean isLocatorProfilerEnabled() {
+        return getBooleanProperty("locator.profiler.enabled", false);
+    }
+    
+    /**
+     * Gets how many of the slowest locators are printed at the end of the suite
+     * @return The number of locators to print
+     */
+    public static int getLocatorProfilerTop() {
+        return getIntProperty("locator.profiler.top", 20);
+    }
+    
+    /**
+     * Gets the file the full locator profile is written to
+     * @return The report file path
+     */
+    public static String getLocatorProfilerReportFile() {
+        return getProperty("locator.profiler.report", "target/locator-profile.txt");
+    }
+    
+    /**
+     * Checks if page element locators should be replaced from the rewrite mapping file
+     * @return true if locator rewriting is enabled, false otherwise
+     */
+    public static boolean isLocatorRewriteEnabled() {
+        return getBooleanProperty("locator.rewrite.enabled", false);
+    }
+    
+    /**
+     * Gets the locator rewrite mapping file, looked up on the file system and then on the classpath
+     * @return The mapping file path
+     */
+    public static String getLocatorRewriteFile() {
+        return getProperty("locator.rewrite.file", "locator-rewrites.properties");
+    }
+    
+    /**
+     * Gets the attribute the application uses for test ids
+     * @return The test id attribute name
+     */
+    public static String getLocatorTestIdAttribute() {
+        return getProperty("locator.testid.attribute", "data-testid");
+    }
+    
+    /**
+     * Checks if the page navigator may open pages by URL instead of clicking through the UI
+     * @return true if deep link navigation is enabled, false otherwise
+     */
+    public static boolean isDeepLinkNavigationEnabled() {
+        return getBooleanProperty("navigation.deeplink.enabled", true);
+    }
+    
+    /**
+     * Gets the cost of a deep link relative to one click transition, which costs 1
+     * @return The deep link cost
+     */
+    public static int getDeepLinkNavigationCost() {
+        return getIntProperty("navigation.deeplink.cost", 2);
+    }
+    
+    /**
+     * Gets the size of the generated upload test file
+     * @return The size, e.g. 10MB, or an empty string to upload test.file.path instead
+     */
+    public static String getTestFileSize() {
+        return getProperty("test.file.size", "").trim();
+    }
+    
+    /**
+     * Gets the content type of generated upload test files
+     * @return binary or text
+     */
+    public static String getTestFileType() {
+        return getProperty("test.file.type", "text");
+    }
+    
+    /**
+     * Gets the seed of generated upload test files; the same seed always produces the same content
+     * @return The seed
+     */
+    public static int getTestFileSeed() {
+        return getIntProperty("test.file.seed", 1);
+    }
+    
+    /**
+     * Gets the directory generated upload test files are cached in
+     * @return The cache directory path
+     */
+    public static String getGeneratedTestFileDir() {
+        return getProperty("test.file.generated.dir", "./test-files/generated");
+    }
+    
     /**
      * Gets the retry count from configuration
      * @return The retry count
@@ -227,6 +669,86 @@ public class ConfigManager {
         return getIntProperty("test.api.retry.count", 3);
     }
     
+    /**
+     * Checks if API clients should share a pool of keep-alive connections
+     * @return true if the API connection pool is enabled, false otherwise
+     */
+    public static boolean isApiConnectionPoolEnabled() {
+        return getBooleanProperty("api.http.pool.enabled", true);
+    }
+    
+    /**
+     * Gets the maximum number of pooled API connections
+     * @return The maximum number of connections across all routes
+     */
+    public static int getApiConnectionPoolMaxTotal() {
+        return getIntProperty("api.http.pool.max.total", 20);
+    }
+    
+    /**
+     * Gets the maximum number of pooled API connections per host
+     * @return The maximum number of connections per route
+     */
+    public static int getApiConnectionPoolMaxPerRoute() {
+        return getIntProperty("api.http.pool.max.per.route", 10);
+    }
+    
+    /**
+     * Gets how long a pooled API connection may stay idle before it is closed
+     * @return The idle timeout in seconds
+     */
+    public static int getApiConnectionPoolIdleTimeout() {
+        return getIntProperty("api.http.pool.idle.timeout", 30);
+    }
+    
+    /**
+     * Gets the longest time an API connection is kept alive between requests
+     * @return The keep-alive timeout in seconds
+     */
+    public static int getApiConnectionKeepAliveTimeout() {
+        return getIntProperty("api.http.keepalive.timeout", 60);
+    }
+    
+    /**
+     * Gets the HTTP version async API requests prefer
+     * @return HTTP_2 or HTTP_1_1
+     */
+    public static String getApiAsyncHttpVersion() {
+        return getProperty("api.async.http.version", "HTTP_2");
+    }
+    
+    /**
+     * Checks if async API responses should be handled on virtual threads where available
+     * @return true if virtual threads should be used, false for platform threads
+     */
+    public static boolean isApiAsyncVirtualThreadsEnabled() {
+        return getBooleanProperty("api.async.virtual.threads", true);
+    }
+    
+    /**
+     * Gets the maximum number of async API requests in flight at once
+     * @return The maximum number of concurrent async requests
+     */
+    public static int getApiAsyncMaxInFlight() {
+        return getIntProperty("api.async.max.in.flight", 1000);
+    }
+    
+    /**
+     * Gets the connect timeout of async API requests
+     * @return The connect timeout in seconds
+     */
+    public static int getApiAsyncConnectTimeout() {
+        return getIntProperty("api.async.connect.timeout", 10);
+    }
+    
+    /**
+     * Gets the timeout of a single async API request
+     * @return The request timeout in seconds
+     */
+    public static int getApiAsyncRequestTimeout() {
+        return getIntProperty("api.async.request.timeout", 30);
+    }
+    
     /**
      * Gets the Learning Instance name from configuration
      * @return The Learning Instance name
@@ -2,6 +2,9 @@ package com.automationframework.utils;
 
 import com.github.javafaker.Faker;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * Utility class for providing test data
  * Uses JavaFaker to generate realistic test data
@@ -50,6 +53,23 @@ public class TestDataProvider {
     public static final String LOGIN_URL = BASE_URL + "/login";
     public static final String DASHBOARD_URL = BASE_URL + "/dashboard";
     
+    /**
+     * Gets the file to upload, a generated file when test.file.size is set
+     * @return Absolute path of the generated file, or TEST_FILE_PATH if no size is configured
+     * @throws UncheckedIOException if the file cannot be generated
+     */
+    public static String getUploadFilePath() {
+        String size = ConfigManager.getTestFileSize();
+        if (size.isEmpty()) {
+            return TEST_FILE_PATH;
+        }
+        try {
+            return TestFileGenerator.generate(size).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to generate upload test file of " + size, e);
+        }
+    }
+    
     /**
      * Generates a random task name
      * @return Random task name
@@ -0,0 +1,319 @@
+package com.automationframework.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates seeded upload test files of any size and caches them by content
+ * The same type, size and seed always produce the same bytes, so a file never has to be committed.
+ * Files are written through one reused direct buffer and hashed while they are written, then stored
+ * as sha256.extension in the cache directory. An index maps type, size and seed to the hash, so
+ * later runs reuse the file after a size check instead of generating it again
+ */
+public class TestFileGenerator {
+    
+    /**
+     * Content of a generated file
+     */
+    public enum FileType {
+        BINARY("bin"),
+        TEXT("txt");
+        
+        private final String extension;
+        
+        FileType(String extension) {
+            this.extension = extension;
+        }
+        
+        public String getExtension() {
+            return extension;
+        }
+        
+        /**
+         * Gets a file type by name, ignoring case
+         * @param name binary or text
+         * @return The file type
+         * @throws IllegalArgumentException if the name is unknown
+         */
+        public static FileType fromName(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+    
+    // Bump when the generated content changes, so files cached by older versions are not reused
+    private static final int CONTENT_VERSION = 1;
+    
+    // Content is generated and hashed one buffer at a time; a multiple of 8 keeps regions word aligned.
+    // Plain channel I/O instead of mapped regions leaves no mapping open when the file is moved
+    private static final int BUFFER_SIZE = 4 * 1024 * 1024;
+    
+    private static final int LINE_LENGTH = 80;
+    private static final byte[] TEXT_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 .".getBytes(StandardCharsets.US_ASCII);
+    
+    private static final String INDEX_FILE = "index.properties";
+    private static final Pattern SIZE = Pattern.compile("(\\d+)\\s*([KMG]?B?)", Pattern.CASE_INSENSITIVE);
+    
+    private static final Map<String, Object> locks = new ConcurrentHashMap<>();
+    
+    private static final AtomicLong generated = new AtomicLong();
+    private static final AtomicLong generatedBytes = new AtomicLong();
+    private static final AtomicLong totalNanos = new AtomicLong();
+    
+    private TestFileGenerator() {
+    }
+    
+    /**
+     * Gets a generated file of the configured type and seed
+     * @param size The size, e.g. 512KB, 10MB or 2GB
+     * @return The absolute path of the file
+     * @throws IOException if the file cannot be generated
+     */
+    public static Path generate(String size) throws IOException {
+        return generate(FileType.fromName(ConfigManager.getTestFileType()), parseSize(size), ConfigManager.getTestFileSeed());
+    }
+    
+    /**
+     * Gets a generated file from the cache, generating it on first use
+     * @param type The content of the file
+     * @param size The size in bytes
+     * @param seed The seed of the content
+     * @return The absolute path of the file
+     * @throws IOException if the file cannot be generated
+     */
+    public static Path generate(FileType type, long size, long seed) throws IOException {
+        if (size < 0) {
+            throw new IllegalArgumentException("File size must not be negative: " + size);
+        }
+        Path directory = Paths.get(ConfigManager.getGeneratedTestFileDir()).toAbsolutePath().normalize();
+        String key = type.name().toLowerCase(Locale.ROOT) + "-" + size + "-" + seed + "-v" + CONTENT_VERSION;
+        
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            Path cached = findCached(directory, key, type, size);
+            if (cached != null) {
+                return cached;
+            }
+            
+            Files.createDirectories(directory);
+            long start = System.nanoTime();
+            Path temp = Files.createTempFile(directory, key + "-", ".tmp");
+            Path file;
+            try {
+                String checksum = write(temp, type, size, seed);
+                file = directory.resolve(checksum + "." + type.getExtension());
+                // A file with the same checksum, e.g. from a parallel run, already has this content
+                if (!Files.isRegularFile(file) || Files.size(file) != size) {
+                    move(temp, file);
+                }
+                updateIndex(directory, key, checksum);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            generated.incrementAndGet();
+            generatedBytes.addAndGet(size);
+            totalNanos.addAndGet(System.nanoTime() - start);
+            return file;
+        }
+    }
+    
+    /**
+     * Computes the SHA-256 checksum of a file in one pass through a direct buffer
+     * @param file The file
+     * @return The checksum as lowercase hex
+     * @throws IOException if the file cannot be read
+     */
+    public static String checksum(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return toHex(digest.digest());
+    }
+    
+    /**
+     * Formats how many files had to be generated instead of being reused from the cache
+     * @return The generation statistics, or an empty string if every file came from the cache
+     */
+    public static String getSummary() {
+        long count = generated.get();
+        if (count == 0) {
+            return "";
+        }
+        return String.format("Generated test files: %d, %d MB, %d ms total",
+                count, generatedBytes.get() >> 20, totalNanos.get() / 1_000_000);
+    }
+    
+    /**
+     * Parses a size with an optional binary unit
+     * @param size The size, e.g. 100, 512KB, 10MB or 2GB
+     * @return The size in bytes
+     * @throws IllegalArgumentException if the size cannot be parsed
+     */
+    public static long parseSize(String size) {
+        Matcher matcher = SIZE.matcher(size == null ? "" : size.trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid file size: " + size + ", expected e.g. 512KB, 10MB or 2GB");
+        }
+        long value = Long.parseLong(matcher.group(1));
+        String unit = matcher.group(2).toUpperCase(Locale.ROOT);
+        int shift = unit.startsWith("G") ? 30 : unit.startsWith("M") ? 20 : unit.startsWith("K") ? 10 : 0;
+        return value << shift;
+    }
+    
+    /**
+     * Returns the indexed file if it still exists with the expected size
+     */
+    private static Path findCached(Path directory, String key, FileType type, long size) throws IOException {
+        String checksum = loadIndex(directory).getProperty(key);
+        if (checksum == null) {
+            return null;
+        }
+        Path file = directory.resolve(checksum + "." + type.getExtension());
+        return Files.isRegularFile(file) && Files.size(file) == size ? file : null;
+    }
+    
+    /**
+     * Fills a file region by region through one direct buffer, hashing each region before it is written
+     * @return The checksum of the content
+     */
+    private static String write(Path file, FileType type, long size, long seed) throws IOException {
+        MessageDigest digest = newDigest();
+        ByteBuffer region = ByteBuffer.allocateDirect((int) Math.min(BUFFER_SIZE, Math.max(size, 1)));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (long position = 0; position < size; position += region.capacity()) {
+                region.clear().limit((int) Math.min(region.capacity(), size - position));
+                if (type == FileType.TEXT) {
+                    fillText(region, position, seed);
+                } else {
+                    fillBinary(region, position, seed);
+                }
+                region.flip();
+                digest.update(region);
+                region.rewind();
+                while (region.hasRemaining()) {
+                    channel.write(region);
+                }
+            }
+            channel.force(false);
+        }
+        return toHex(digest.digest());
+    }
+    
+    /**
+     * Writes byte p of the file as byte p % 8 of word p / 8; regions start at multiples of 8
+     */
+    private static void fillBinary(ByteBuffer region, long offset, long seed) {
+        region.order(ByteOrder.LITTLE_ENDIAN);
+        long word = offset >>> 3;
+        while (region.remaining() >= Long.BYTES) {
+            region.putLong(mix(seed, word++));
+        }
+        long value = mix(seed, word);
+        while (region.hasRemaining()) {
+            region.put((byte) value);
+            value >>>= 8;
+        }
+    }
+    
+    /**
+     * Maps the binary content onto a printable alphabet and ends every line of 80 characters
+     */
+    private static void fillText(ByteBuffer region, long offset, long seed) {
+        long position = offset;
+        long word = offset >>> 3;
+        while (region.hasRemaining()) {
+            long value = mix(seed, word++);
+            for (int i = 0; i < Long.BYTES && region.hasRemaining(); i++, position++, value >>>= 8) {
+                region.put(position % (LINE_LENGTH + 1) == LINE_LENGTH ? (byte) '\n' : TEXT_ALPHABET[(int) value & 63]);
+            }
+        }
+    }
+    
+    /**
+     * SplitMix64 of the seeded word index, so any region can be generated independently
+     */
+    private static long mix(long seed, long index) {
+        long z = seed * 0x9E3779B97F4A7C15L + index * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException | FileAlreadyExistsException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    private static Properties loadIndex(Path directory) throws IOException {
+        Properties index = new Properties();
+        Path file = directory.resolve(INDEX_FILE);
+        if (Files.isRegularFile(file)) {
+            try (InputStream input = Files.newInputStream(file)) {
+                index.load(input);
+            }
+        }
+        return index;
+    }
+    
+    /**
+     * Adds an entry to the index, replacing the index file atomically for parallel runs
+     */
+    private static synchronized void updateIndex(Path directory, String key, String checksum) throws IOException {
+        Properties index = loadIndex(directory);
+        index.setProperty(key, checksum);
+        Path temp = Files.createTempFile(directory, "index-", ".tmp");
+        try {
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                index.store(output, "Generated test files: type-size-seed-version=sha256");
+            }
+            move(temp, directory.resolve(INDEX_FILE));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
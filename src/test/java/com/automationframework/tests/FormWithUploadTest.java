@@ -13,16 +13,9 @@ import org.testng.annotations.Test;
  */
 public class FormWithUploadTest extends BaseTest {
     
-    private LoginPage loginPage;
-    private DashboardPage dashboardPage;
-    private AutomationPage automationPage;
-    private FormPage formPage;
-    private FormDesignerPage formDesignerPage;
-    private FormPreviewPage formPreviewPage;
-    
     @Override
     protected void navigateToApplication() {
-        driver.get(TestDataProvider.LOGIN_URL);
+        getDriver().get(TestDataProvider.LOGIN_URL);
     }
     
     /**
@@ -44,28 +37,28 @@ public class FormWithUploadTest extends BaseTest {
             performLogin();
             
             // Step 2: Navigate to Automation from the left-hand menu
-            navigateToAutomation();
+            AutomationPage automationPage = navigateToAutomation();
             
             // Step 3: Click on the Create dropdown and select Form
-            navigateToForm();
+            FormPage formPage = navigateToForm(automationPage);
             
             // Step 4: Fill in all mandatory details and click the Create button
-            createForm();
+            FormDesignerPage formDesignerPage = createForm(formPage);
             
             // Step 5: From the left menu, drag and drop the Textbox and Select File elements onto the canvas
-            addFormElementsToCanvas();
+            addFormElementsToCanvas(formDesignerPage);
             
             // Step 6: Click on each element and verify all UI interactions in the right panel
-            verifyUIInteractions();
+            verifyUIInteractions(formDesignerPage);
             
             // Step 7: Enter text in the textbox and upload a document from your shared folder
-            previewAndFillForm();
+            FormPreviewPage formPreviewPage = previewAndFillForm(formDesignerPage);
             
             // Step 8: Save the form and verify whether the document is uploaded successfully
-            submitFormAndVerifyUpload();
+            submitFormAndVerifyUpload(formPreviewPage);
             
             // Final validation
-            validateSuccessfulFormSubmission();
+            validateSuccessfulFormSubmission(formPreviewPage);
             
         } catch (WebExceptions e) {
             Assert.fail("Test failed due to WebExceptions: " + e.getMessage());
@@ -82,14 +75,14 @@ public class FormWithUploadTest extends BaseTest {
     public void testFormCreationAndDesign() {
         try {
             performLogin();
-            navigateToAutomation();
-            navigateToForm();
-            createForm();
-            addFormElementsToCanvas();
-            verifyUIInteractions();
+            AutomationPage automationPage = navigateToAutomation();
+            FormPage formPage = navigateToForm(automationPage);
+            FormDesignerPage formDesignerPage = createForm(formPage);
+            addFormElementsToCanvas(formDesignerPage);
+            verifyUIInteractions(formDesignerPage);
             
             // Validate form design functionality
-            validateFormDesignFunctionality();
+            validateFormDesignFunctionality(formDesignerPage);
             
         } catch (WebExceptions e) {
             Assert.fail("Form Creation and Design test failed: " + e.getMessage());
@@ -104,15 +97,14 @@ public class FormWithUploadTest extends BaseTest {
     public void testFileUploadAndSubmission() {
         try {
             performLogin();
-            navigateToAutomation();
-            navigateToForm();
-            createForm();
-            addFormElementsToCanvas();
-            previewAndFillForm();
-            submitFormAndVerifyUpload();
+            FormPage formPage = openFormPage();
+            FormDesignerPage formDesignerPage = createForm(formPage);
+            addFormElementsToCanvas(formDesignerPage);
+            FormPreviewPage formPreviewPage = previewAndFillForm(formDesignerPage);
+            submitFormAndVerifyUpload(formPreviewPage);
             
             // Validate file upload and submission
-            validateFileUploadAndSubmission();
+            validateFileUploadAndSubmission(formPreviewPage);
             
         } catch (WebExceptions e) {
             Assert.fail("File Upload and Submission test failed: " + e.getMessage());
@@ -121,10 +113,23 @@ public class FormWithUploadTest extends BaseTest {
     
     /**
      * Performs login with valid credentials
+     * Reuses the worker's cached session when available instead of the login form
      * @throws WebExceptions if login fails
      */
     private void performLogin() throws WebExceptions {
-        loginPage = new LoginPage(driver);
+        if (restoreCachedSession()) {
+            return;
+        }
+        performUiLogin();
+    }
+    
+    /**
+     * Performs login through the login form and caches the resulting session
+     * @throws WebExceptions if login fails
+     */
+    private void performUiLogin() throws WebExceptions {
+        ensureApplicationOpen();
+        LoginPage loginPage = new LoginPage();
         
         // Verify login page elements are visible
         Assert.assertTrue(loginPage.areAllElementsVisible(), "Login page elements should be visible");
@@ -134,45 +139,67 @@ public class FormWithUploadTest extends BaseTest {
         
         // Verify successful login
         Assert.assertFalse(loginPage.isErrorMessageDisplayed(), "Error message should not be displayed after valid login");
+        
+        cacheCurrentSession();
     }
     
     /**
      * Navigates to the Automation section
+     * @return The Automation page
      * @throws WebExceptions if navigation fails
      */
-    private void navigateToAutomation() throws WebExceptions {
-        dashboardPage = new DashboardPage(driver);
+    private AutomationPage navigateToAutomation() throws WebExceptions {
+        DashboardPage dashboardPage = new DashboardPage();
         
         // Verify dashboard elements are visible
         Assert.assertTrue(dashboardPage.areAllElementsVisible(), "Dashboard elements should be visible");
         
         // Navigate to Automation
-        automationPage = dashboardPage.navigateToAutomation();
+        AutomationPage automationPage = dashboardPage.navigateToAutomation();
         
         // Verify navigation to Automation page
         Assert.assertTrue(automationPage.isOnAutomationPage(), "Should be on Automation page");
         Assert.assertTrue(automationPage.areAllElementsVisible(), "Automation page elements should be visible");
+        return automationPage;
     }
     
     /**
      * Navigates to Form creation
+     * @param automationPage The Automation page to navigate from
+     * @return The Form creation page
      * @throws WebExceptions if navigation fails
      */
-    private void navigateToForm() throws WebExceptions {
+    private FormPage navigateToForm(AutomationPage automationPage) throws WebExceptions {
         // Navigate to Form
-        formPage = automationPage.navigateToForm();
+        FormPage formPage = automationPage.navigateToForm();
+        
+        // Verify Form page elements are visible
+        Assert.assertTrue(formPage.areAllFormElementsVisible(), "Form creation elements should be visible");
+        return formPage;
+    }
+    
+    /**
+     * Opens Form creation along the cheapest route, deep linking when configured
+     * @return The Form creation page
+     * @throws WebExceptions if navigation fails
+     */
+    private FormPage openFormPage() throws WebExceptions {
+        FormPage formPage = PageRoutes.navigator(getDriver()).navigateTo(FormPage.class);
         
         // Verify Form page elements are visible
         Assert.assertTrue(formPage.areAllFormElementsVisible(), "Form creation elements should be visible");
+        return formPage;
     }
     
     /**
      * Creates a form with mandatory details
+     * @param formPage The Form creation page
+     * @return The Form Designer page of the new form
      * @throws WebExceptions if form creation fails
      */
-    private void createForm() throws WebExceptions {
+    private FormDesignerPage createForm(FormPage formPage) throws WebExceptions {
         // Create Form with mandatory details
-        formDesignerPage = formPage.createForm(
+        FormDesignerPage formDesignerPage = formPage.createForm(
             TestDataProvider.FORM_NAME,
             TestDataProvider.FORM_DESCRIPTION,
             TestDataProvider.FORM_CATEGORY,
@@ -186,13 +213,15 @@ public class FormWithUploadTest extends BaseTest {
         // Verify Form Designer is loaded
         Assert.assertTrue(formDesignerPage.isFormDesignerLoaded(), "Form Designer should be loaded");
         Assert.assertTrue(formDesignerPage.areAllFormDesignerElementsVisible(), "All Form Designer elements should be visible");
+        return formDesignerPage;
     }
     
     /**
      * Adds form elements to the canvas using drag and drop
+     * @param formDesignerPage The Form Designer page
      * @throws WebExceptions if drag and drop fails
      */
-    private void addFormElementsToCanvas() throws WebExceptions {
+    private void addFormElementsToCanvas(FormDesignerPage formDesignerPage) throws WebExceptions {
         // Verify left menu with form elements is visible
         Assert.assertTrue(formDesignerPage.isLeftMenuVisible(), "Left menu with form elements should be visible");
         
@@ -211,9 +240,10 @@ public class FormWithUploadTest extends BaseTest {
     
     /**
      * Verifies UI interactions in the right panel
+     * @param formDesignerPage The Form Designer page
      * @throws WebExceptions if verification fails
      */
-    private void verifyUIInteractions() throws WebExceptions {
+    private void verifyUIInteractions(FormDesignerPage formDesignerPage) throws WebExceptions {
         // Verify right panel is visible
         Assert.assertTrue(formDesignerPage.isRightPanelVisible(), "Right panel should be visible");
         
@@ -228,11 +258,14 @@ public class FormWithUploadTest extends BaseTest {
     
     /**
      * Previews the form and fills in the required data
+     * @param formDesignerPage The Form Designer page of the form to preview
+     * @return The Form Preview page
      * @throws WebExceptions if form preview or filling fails
      */
-    private void previewAndFillForm() throws WebExceptions {
+    private FormPreviewPage previewAndFillForm(FormDesignerPage formDesignerPage) throws WebExceptions {
         // Click Preview Form button
         formDesignerPage.clickPreviewFormButton();
+        FormPreviewPage formPreviewPage = new FormPreviewPage();
         
         // Verify Form Preview is loaded
         Assert.assertTrue(formPreviewPage.isFormPreviewLoaded(), "Form Preview should be loaded");
@@ -246,19 +279,21 @@ public class FormWithUploadTest extends BaseTest {
         Assert.assertEquals(enteredText, TestDataProvider.FORM_TEXT_INPUT, "Text should be entered in textbox");
         
         // Upload file
-        formPreviewPage.uploadFile(TestDataProvider.TEST_FILE_PATH);
+        formPreviewPage.uploadFile(TestDataProvider.getUploadFilePath());
         
         // Verify file is uploaded
         String uploadedFileName = formPreviewPage.getUploadedFileName();
         Assert.assertNotNull(uploadedFileName, "File name should be displayed after upload");
         Assert.assertFalse(uploadedFileName.isEmpty(), "File name should not be empty");
+        return formPreviewPage;
     }
     
     /**
      * Submits the form and verifies file upload
+     * @param formPreviewPage The Form Preview page
      * @throws WebExceptions if form submission fails
      */
-    private void submitFormAndVerifyUpload() throws WebExceptions {
+    private void submitFormAndVerifyUpload(FormPreviewPage formPreviewPage) throws WebExceptions {
         // Submit the form
         formPreviewPage.clickSubmitFormButton();
         
@@ -273,9 +308,10 @@ public class FormWithUploadTest extends BaseTest {
     
     /**
      * Validates successful form submission
+     * @param formPreviewPage The Form Preview page
      * @throws WebExceptions if validation fails
      */
-    private void validateSuccessfulFormSubmission() throws WebExceptions {
+    private void validateSuccessfulFormSubmission(FormPreviewPage formPreviewPage) throws WebExceptions {
         // Verify success message
         String successMessage = formPreviewPage.getSuccessMessage();
         Assert.assertNotNull(successMessage, "Success message should not be null");
@@ -291,9 +327,10 @@ public class FormWithUploadTest extends BaseTest {
     
     /**
      * Validates form design functionality
+     * @param formDesignerPage The Form Designer page
      * @throws WebExceptions if validation fails
      */
-    private void validateFormDesignFunctionality() throws WebExceptions {
+    private void validateFormDesignFunctionality(FormDesignerPage formDesignerPage) throws WebExceptions {
         // Verify form designer title
         String designerTitle = formDesignerPage.getFormDesignerTitle();
         Assert.assertNotNull(designerTitle, "Form Designer title should not be null");
@@ -307,9 +344,10 @@ public class FormWithUploadTest extends BaseTest {
     
     /**
      * Validates file upload and submission functionality
+     * @param formPreviewPage The Form Preview page
      * @throws WebExceptions if validation fails
      */
-    private void validateFileUploadAndSubmission() throws WebExceptions {
+    private void validateFileUploadAndSubmission(FormPreviewPage formPreviewPage) throws WebExceptions {
         // Verify file upload status
         String uploadStatus = formPreviewPage.getUploadStatus();
         Assert.assertNotNull(uploadStatus, "Upload status should not be null");
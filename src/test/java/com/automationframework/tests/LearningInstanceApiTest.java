@@ -7,8 +7,11 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Test class for Learning Instance API Flow automation
@@ -287,6 +290,58 @@ public class LearningInstanceApiTest {
         }
     }
     
+    /**
+     * Test Case: Concurrent Learning Instance Flow through the async API
+     * Creates several instances at once, retrieves and deletes them without blocking between requests
+     */
+    @Test(description = "Concurrent Learning Instance Flow (Async)", priority = 8)
+    public void testConcurrentLearningInstanceFlowAsync() {
+        try {
+            // Ensure login
+            if (!learningInstanceApi.isAuthenticated()) {
+                performLogin();
+            }
+            
+            // Create the instances concurrently
+            List<CompletableFuture<Response>> creations = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                creations.add(learningInstanceApi.createLearningInstanceAsync("Async_Test_Instance_" + i + "_"
+                        + System.currentTimeMillis(), TestDataProvider.LEARNING_INSTANCE_DESCRIPTION,
+                        TestDataProvider.LEARNING_INSTANCE_TYPE, TestDataProvider.LEARNING_INSTANCE_STATUS));
+            }
+            CompletableFuture.allOf(creations.toArray(new CompletableFuture[0])).join();
+            
+            List<String> instanceIds = new ArrayList<>();
+            for (CompletableFuture<Response> creation : creations) {
+                Response response = creation.join();
+                Assert.assertTrue(learningInstanceApi.validateLearningInstanceCreation(response), 
+                               "Async Learning Instance creation validation should pass");
+                instanceIds.add(learningInstanceApi.extractLearningInstanceId(response));
+            }
+            
+            // Retrieve and then delete every instance, chaining the requests per instance
+            List<CompletableFuture<Response>> deletions = new ArrayList<>();
+            for (String instanceId : instanceIds) {
+                Assert.assertNotNull(instanceId, "Learning Instance ID should not be null");
+                deletions.add(learningInstanceApi.getLearningInstanceByIdAsync(instanceId)
+                        .thenCompose(retrieval -> {
+                            Assert.assertTrue(learningInstanceApi.validateLearningInstanceRetrieval(retrieval), 
+                                           "Async Learning Instance retrieval validation should pass");
+                            return learningInstanceApi.deleteLearningInstanceAsync(instanceId);
+                        }));
+            }
+            for (CompletableFuture<Response> deletion : deletions) {
+                Response response = deletion.join();
+                Assert.assertTrue(learningInstanceApi.validateStatusCode(response, 200) || 
+                               learningInstanceApi.validateStatusCode(response, 204), 
+                               "Async delete should return status code 200 or 204");
+            }
+            
+        } catch (Exception e) {
+            Assert.fail("Test failed due to unexpected exception: " + e.getMessage());
+        }
+    }
+    
     /**
      * Performs login using test credentials
      * @return true if login successful, false otherwise
@@ -14,15 +14,9 @@ import org.testng.annotations.Test;
  */
 public class MessageBoxTaskTest extends BaseTest {
     
-    private LoginPage loginPage;
-    private DashboardPage dashboardPage;
-    private AutomationPage automationPage;
-    private TaskBotPage taskBotPage;
-    private TaskBotActionsPage taskBotActionsPage;
-    
     @Override
     protected void navigateToApplication() {
-        driver.get(TestDataProvider.LOGIN_URL);
+        getDriver().get(TestDataProvider.LOGIN_URL);
     }
     
     /**
@@ -43,25 +37,25 @@ public class MessageBoxTaskTest extends BaseTest {
             performLogin();
             
             // Step 2: Navigate to Automation from the left-hand menu
-            navigateToAutomation();
+            AutomationPage automationPage = navigateToAutomation();
             
             // Step 3: Click on the Create dropdown and select Task Bot
-            navigateToTaskBot();
+            TaskBotPage taskBotPage = navigateToTaskBot(automationPage);
             
             // Step 4: Fill in all mandatory details and click the Create button
-            createTaskBot();
+            TaskBotActionsPage taskBotActionsPage = createTaskBot(taskBotPage);
             
             // Step 5: In the Actions panel, search for Message Box and double-click to add it
-            addMessageBoxAction();
+            addMessageBoxAction(taskBotActionsPage);
             
             // Step 6: On the right panel, verify every UI element interaction
-            verifyUIElements();
+            verifyUIElements(taskBotActionsPage);
             
             // Step 7: Save the configuration
-            saveConfiguration();
+            saveConfiguration(taskBotActionsPage);
             
             // Final validation
-            validateSuccessfulCreation();
+            validateSuccessfulCreation(taskBotActionsPage);
             
         } catch (WebExceptions e) {
             Assert.fail("Test failed due to WebExceptions: " + e.getMessage());
@@ -78,26 +72,27 @@ public class MessageBoxTaskTest extends BaseTest {
     public void testUIElementVisibility() {
         try {
             // Login page elements
-            performLogin();
+            LoginPage loginPage = performUiLogin();
             Assert.assertTrue(loginPage.areAllElementsVisible(), "Login page elements should be visible");
             
             // Dashboard elements
-            navigateToAutomation();
+            DashboardPage dashboardPage = new DashboardPage();
+            AutomationPage automationPage = navigateToAutomation(dashboardPage);
             Assert.assertTrue(dashboardPage.areAllElementsVisible(), "Dashboard elements should be visible");
             
             // Automation page elements
             Assert.assertTrue(automationPage.areAllElementsVisible(), "Automation page elements should be visible");
             
             // Task Bot creation form elements
-            navigateToTaskBot();
+            TaskBotPage taskBotPage = navigateToTaskBot(automationPage);
             Assert.assertTrue(taskBotPage.areAllFormElementsVisible(), "Task Bot form elements should be visible");
             
             // Actions panel elements
-            createTaskBot();
+            TaskBotActionsPage taskBotActionsPage = createTaskBot(taskBotPage);
             Assert.assertTrue(taskBotActionsPage.isActionsPanelVisible(), "Actions panel should be visible");
             
             // Configuration elements
-            addMessageBoxAction();
+            addMessageBoxAction(taskBotActionsPage);
             Assert.assertTrue(taskBotActionsPage.isRightPanelVisible(), "Right panel should be visible");
             Assert.assertTrue(taskBotActionsPage.areAllConfigElementsVisible(), "Configuration elements should be visible");
             
@@ -115,15 +110,14 @@ public class MessageBoxTaskTest extends BaseTest {
         try {
             // Complete flow execution
             performLogin();
-            navigateToAutomation();
-            navigateToTaskBot();
-            createTaskBot();
-            addMessageBoxAction();
-            verifyUIElements();
-            saveConfiguration();
+            TaskBotPage taskBotPage = openTaskBotPage();
+            TaskBotActionsPage taskBotActionsPage = createTaskBot(taskBotPage);
+            addMessageBoxAction(taskBotActionsPage);
+            verifyUIElements(taskBotActionsPage);
+            saveConfiguration(taskBotActionsPage);
             
             // Validate functional flow
-            validateFunctionalFlow();
+            validateFunctionalFlow(taskBotActionsPage);
             
         } catch (WebExceptions e) {
             Assert.fail("Functional Flow test failed: " + e.getMessage());
@@ -132,10 +126,24 @@ public class MessageBoxTaskTest extends BaseTest {
     
     /**
      * Performs login with valid credentials
+     * Reuses the worker's cached session when available instead of the login form
      * @throws WebExceptions if login fails
      */
     private void performLogin() throws WebExceptions {
-        loginPage = new LoginPage(driver);
+        if (restoreCachedSession()) {
+            return;
+        }
+        performUiLogin();
+    }
+    
+    /**
+     * Performs login through the login form and caches the resulting session
+     * @return The login page used to log in
+     * @throws WebExceptions if login fails
+     */
+    private LoginPage performUiLogin() throws WebExceptions {
+        ensureApplicationOpen();
+        LoginPage loginPage = new LoginPage();
         
         // Verify login page elements are visible
         Assert.assertTrue(loginPage.areAllElementsVisible(), "Login page elements should be visible");
@@ -145,45 +153,76 @@ public class MessageBoxTaskTest extends BaseTest {
         
         // Verify successful login
         Assert.assertFalse(loginPage.isErrorMessageDisplayed(), "Error message should not be displayed after valid login");
+        
+        cacheCurrentSession();
+        return loginPage;
     }
     
     /**
      * Navigates to the Automation section
+     * @return The Automation page
      * @throws WebExceptions if navigation fails
      */
-    private void navigateToAutomation() throws WebExceptions {
-        dashboardPage = new DashboardPage(driver);
+    private AutomationPage navigateToAutomation() throws WebExceptions {
+        return navigateToAutomation(new DashboardPage());
+    }
         
+    /**
+     * Navigates to the Automation section from the given dashboard
+     * @param dashboardPage The dashboard to navigate from
+     * @return The Automation page
+     * @throws WebExceptions if navigation fails
+     */
+    private AutomationPage navigateToAutomation(DashboardPage dashboardPage) throws WebExceptions {
         // Verify dashboard elements are visible
         Assert.assertTrue(dashboardPage.areAllElementsVisible(), "Dashboard elements should be visible");
         
         // Navigate to Automation
-        automationPage = dashboardPage.navigateToAutomation();
+        AutomationPage automationPage = dashboardPage.navigateToAutomation();
         
         // Verify navigation to Automation page
         Assert.assertTrue(automationPage.isOnAutomationPage(), "Should be on Automation page");
         Assert.assertTrue(automationPage.areAllElementsVisible(), "Automation page elements should be visible");
+        return automationPage;
     }
     
     /**
      * Navigates to Task Bot creation
+     * @param automationPage The Automation page to navigate from
+     * @return The Task Bot creation page
      * @throws WebExceptions if navigation fails
      */
-    private void navigateToTaskBot() throws WebExceptions {
+    private TaskBotPage navigateToTaskBot(AutomationPage automationPage) throws WebExceptions {
         // Navigate to Task Bot
-        taskBotPage = automationPage.navigateToTaskBot();
+        TaskBotPage taskBotPage = automationPage.navigateToTaskBot();
+        
+        // Verify Task Bot page elements are visible
+        Assert.assertTrue(taskBotPage.areAllFormElementsVisible(), "Task Bot form elements should be visible");
+        return taskBotPage;
+    }
+    
+    /**
+     * Opens Task Bot creation along the cheapest route, deep linking when configured
+     * @return The Task Bot creation page
+     * @throws WebExceptions if navigation fails
+     */
+    private TaskBotPage openTaskBotPage() throws WebExceptions {
+        TaskBotPage taskBotPage = PageRoutes.navigator(getDriver()).navigateTo(TaskBotPage.class);
         
         // Verify Task Bot page elements are visible
         Assert.assertTrue(taskBotPage.areAllFormElementsVisible(), "Task Bot form elements should be visible");
+        return taskBotPage;
     }
     
     /**
      * Creates a Task Bot with mandatory details
+     * @param taskBotPage The Task Bot creation page
+     * @return The Task Bot actions page of the new Task Bot
      * @throws WebExceptions if Task Bot creation fails
      */
-    private void createTaskBot() throws WebExceptions {
+    private TaskBotActionsPage createTaskBot(TaskBotPage taskBotPage) throws WebExceptions {
         // Create Task Bot with mandatory details
-        taskBotActionsPage = taskBotPage.createTaskBot(
+        TaskBotActionsPage taskBotActionsPage = taskBotPage.createTaskBot(
             TestDataProvider.TASK_NAME,
             TestDataProvider.TASK_DESCRIPTION,
             TestDataProvider.TASK_CATEGORY,
@@ -193,13 +232,15 @@ public class MessageBoxTaskTest extends BaseTest {
         
         // Verify Task Bot creation success
         Assert.assertTrue(taskBotPage.isSuccessMessageDisplayed(), "Success message should be displayed after Task Bot creation");
+        return taskBotActionsPage;
     }
     
     /**
      * Adds Message Box action to the Task Bot
+     * @param taskBotActionsPage The Task Bot actions page
      * @throws WebExceptions if Message Box action addition fails
      */
-    private void addMessageBoxAction() throws WebExceptions {
+    private void addMessageBoxAction(TaskBotActionsPage taskBotActionsPage) throws WebExceptions {
         // Verify actions panel is visible
         Assert.assertTrue(taskBotActionsPage.isActionsPanelVisible(), "Actions panel should be visible");
         
@@ -218,9 +259,10 @@ public class MessageBoxTaskTest extends BaseTest {
     
     /**
      * Verifies all UI elements in the configuration panel
+     * @param taskBotActionsPage The Task Bot actions page
      * @throws WebExceptions if verification fails
      */
-    private void verifyUIElements() throws WebExceptions {
+    private void verifyUIElements(TaskBotActionsPage taskBotActionsPage) throws WebExceptions {
         // Verify all configuration elements are visible
         Assert.assertTrue(taskBotActionsPage.areAllConfigElementsVisible(), "All configuration elements should be visible");
         
@@ -232,9 +274,10 @@ public class MessageBoxTaskTest extends BaseTest {
     
     /**
      * Saves the Message Box configuration
+     * @param taskBotActionsPage The Task Bot actions page
      * @throws WebExceptions if save operation fails
      */
-    private void saveConfiguration() throws WebExceptions {
+    private void saveConfiguration(TaskBotActionsPage taskBotActionsPage) throws WebExceptions {
         // Configure Message Box with test data
         taskBotActionsPage.configureMessageBox(
             TestDataProvider.MESSAGE_TEXT,
@@ -251,9 +294,10 @@ public class MessageBoxTaskTest extends BaseTest {
     
     /**
      * Validates successful creation and configuration
+     * @param taskBotActionsPage The Task Bot actions page
      * @throws WebExceptions if validation fails
      */
-    private void validateSuccessfulCreation() throws WebExceptions {
+    private void validateSuccessfulCreation(TaskBotActionsPage taskBotActionsPage) throws WebExceptions {
         // Verify save success message
         String successMessage = taskBotActionsPage.getSaveSuccessMessage();
         Assert.assertNotNull(successMessage, "Success message should not be null");
@@ -266,9 +310,10 @@ public class MessageBoxTaskTest extends BaseTest {
     
     /**
      * Validates the complete functional flow
+     * @param taskBotActionsPage The Task Bot actions page
      * @throws WebExceptions if validation fails
      */
-    private void validateFunctionalFlow() throws WebExceptions {
+    private void validateFunctionalFlow(TaskBotActionsPage taskBotActionsPage) throws WebExceptions {
         // Verify complete flow success
         Assert.assertTrue(taskBotActionsPage.isSaveSuccessMessageDisplayed(), "Configuration should be saved successfully");
         